@@ -1,5 +1,6 @@
 package com.docmate.admin;
 
+import com.docmate.common.outbox.EnableOutbox;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableOutbox
 @EntityScan(basePackages = {"com.docmate.common.entity", "com.docmate.admin.entity"})
 @EnableJpaRepositories(basePackages = {"com.docmate.admin.repository", "com.docmate.common.repository"})
 public class AdminServiceApplication {
@@ -6,6 +6,7 @@ import com.docmate.common.entity.DoctorVerificationDocuments;
 import com.docmate.common.entity.User;
 import com.docmate.common.enums.VerificationStatus;
 import com.docmate.common.exception.BusinessException;
+import com.docmate.common.outbox.OutboxPublisher;
 import com.docmate.common.repository.DoctorRepository;
 import com.docmate.common.repository.DoctorVerificationDocumentsRepository;
 import com.docmate.common.repository.CommonUserRepository;
@@ -25,9 +26,12 @@ import java.util.stream.Collectors;
 @Transactional
 public class AdminVerificationService {
 
+    private static final String DOCTOR_AGGREGATE = "Doctor";
+
     private final DoctorVerificationDocumentsRepository verificationRepository;
     private final DoctorRepository doctorRepository;
     private final CommonUserRepository userRepository;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional(readOnly = true)
     public List<DoctorVerificationDto> getPendingVerifications() {
@@ -101,7 +105,11 @@ public class AdminVerificationService {
             request.getVerificationStatus().name().toLowerCase(),
             adminUserId);
 
-        return mapToDto(verification);
+        // Keyed by doctor, so consumers see a doctor's reviews in order
+        DoctorVerificationDto reviewed = mapToDto(verification);
+        outboxPublisher.publish(DOCTOR_AGGREGATE, verification.getDoctor().getId(),
+                "VERIFICATION_" + request.getVerificationStatus().name(), reviewed);
+        return reviewed;
     }
 
     @Transactional(readOnly = true)
@@ -1,5 +1,7 @@
 package com.docmate.appointment;
 
+import com.docmate.common.notify.EnableNotificationListener;
+import com.docmate.common.outbox.EnableOutbox;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -10,6 +12,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableScheduling
+@EnableOutbox
+@EnableNotificationListener
 @EntityScan(basePackages = {"com.docmate.common.entity", "com.docmate.appointment.entity"})
 @EnableJpaRepositories(basePackages = {"com.docmate.appointment.repository"})
 public class AppointmentServiceApplication {
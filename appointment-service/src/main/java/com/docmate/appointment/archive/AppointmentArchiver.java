@@ -0,0 +1,74 @@
+package com.docmate.appointment.archive;
+
+import com.docmate.appointment.repository.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Moves completed and cancelled appointments older than {@code app.archive.after-days} into
+ * {@code appointments_archive}, so the live table and its indexes hold only recent and upcoming
+ * appointments. History reads cover both tables through the {@code appointment_history} view.
+ * <p>
+ * Each batch is moved in its own short transaction, with a pause between batches, so archiving
+ * a large backlog never holds locks for long or crowds out bookings. A run stops after
+ * {@code max-batches-per-run} batches and the next run continues where it left off.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppointmentArchiver {
+
+    private final AppointmentRepository appointmentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.after-days:365}")
+    private int afterDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.batch-pause-ms:200}")
+    private long batchPauseMs;
+
+    @Value("${app.archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDate.now().minusDays(afterDays).atStartOfDay();
+        long archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            long moved = transactionTemplate.execute(status -> appointmentRepository.archiveFinishedBefore(cutoff, batchSize));
+            archived += moved;
+            if (moved < batchSize || !pause()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} appointments finished before {}", archived, cutoff);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
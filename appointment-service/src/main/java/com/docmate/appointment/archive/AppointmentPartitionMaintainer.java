@@ -0,0 +1,61 @@
+package com.docmate.appointment.archive;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Maintains the monthly partitions of {@code appointments}. Partitions are created
+ * {@code months-ahead} months before bookings reach them, so the default partition stays empty.
+ * Months that end before the archive cutoff are dropped once the {@link AppointmentArchiver}
+ * has emptied them, which leaves nothing behind to vacuum.
+ * <p>
+ * Each partition enforces the slot exclusion constraint on its own rows only, which is why
+ * appointments may not run past the end of a month; see
+ * {@link com.docmate.appointment.booking.BookingConflicts#crossesMonth}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppointmentPartitionMaintainer {
+
+    private final EntityManager entityManager;
+
+    @Value("${app.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.archive.after-days:365}")
+    private int archiveAfterDays;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.cron:0 0 2 * * *}")
+    public void maintain() {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            Object created = entityManager.createNativeQuery("SELECT create_appointments_partition(:month)")
+                    .setParameter("month", thisMonth.plusMonths(i))
+                    .getSingleResult();
+            if (created != null) {
+                log.info("Created appointments partition {}", created);
+            }
+        }
+
+        LocalDate before = LocalDate.now().minusDays(archiveAfterDays).withDayOfMonth(1);
+        Number dropped = (Number) entityManager
+                .createNativeQuery("SELECT drop_expired_partitions('appointments', :before, true, false)")
+                .setParameter("before", before)
+                .getSingleResult();
+        if (dropped.intValue() > 0) {
+            log.info("Dropped {} emptied appointments partitions before {}", dropped, before);
+        }
+    }
+}
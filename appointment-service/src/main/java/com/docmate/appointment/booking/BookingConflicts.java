@@ -0,0 +1,40 @@
+package com.docmate.appointment.booking;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Recognizes writes rejected by a slot exclusion constraint, which the database enforces on each
+ * monthly appointments partition as the final guard against overlapping bookings.
+ * <p>
+ * A partition's constraint only sees that partition's rows, so an appointment running past
+ * midnight into the next month would never be checked against the next month's bookings. Such
+ * slots are therefore not bookable: see {@link #crossesMonth}.
+ */
+public final class BookingConflicts {
+
+    // SQLSTATE Postgres reports for an exclusion constraint violation
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private BookingConflicts() {
+    }
+
+    /**
+     * Whether a slot starting at {@code start} ends in a later month than it starts, and so
+     * overlaps rows its partition's exclusion constraint cannot see.
+     */
+    public static boolean crossesMonth(LocalDateTime start, int durationMinutes) {
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        return end.isAfter(YearMonth.from(start).plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    public static boolean isSlotConflict(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
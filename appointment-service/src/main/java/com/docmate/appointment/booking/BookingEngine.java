@@ -0,0 +1,233 @@
+package com.docmate.appointment.booking;
+
+import com.docmate.appointment.dto.BookedIntervalDto;
+import com.docmate.appointment.repository.AppointmentRepository;
+import com.docmate.common.enums.AppointmentStatus;
+import com.docmate.common.exception.BusinessException;
+import com.docmate.common.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of every doctor's booked intervals, used to check and reserve a slot atomically.
+ * <p>
+ * Doctors are mapped onto a fixed set of lock stripes, so bookings for different doctors rarely
+ * contend while bookings for the same doctor are serialized only for the in-memory check and
+ * reservation. The appointment row is written after the lock is released; the reservation is
+ * dropped again if that write or its transaction fails.
+ * <p>
+ * The index is rebuilt from the database on startup. A doctor touched before the rebuild has
+ * finished is loaded on demand, under the doctor's lock.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingEngine {
+
+    public static final Set<AppointmentStatus> INACTIVE_STATUSES =
+            EnumSet.of(AppointmentStatus.CANCELLED, AppointmentStatus.COMPLETED);
+
+    private final AppointmentRepository appointmentRepository;
+
+    @Value("${app.booking.lock-stripes:64}")
+    private int lockStripes;
+
+    @Value("${app.booking.retention-hours:24}")
+    private long retentionHours;
+
+    private final Map<UUID, DoctorSchedule> schedules = new ConcurrentHashMap<>();
+    // Doctors released or moved before the rebuild loaded them, whose rows in its snapshot may be stale
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private ReentrantLock[] stripes;
+    private volatile boolean rebuilt;
+
+    @PostConstruct
+    void initStripes() {
+        int count = Integer.highestOneBit(Math.max(lockStripes, 1) * 2 - 1);
+        stripes = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Reserves {@code [start, start + durationMinutes)} on the doctor's calendar, then runs
+     * {@code writer} to persist the booking and attaches the id it returns to the reservation.
+     *
+     * @throws BusinessException {@code APPOINTMENT_CONFLICT} if the interval overlaps a booking
+     */
+    public <T> T book(UUID doctorId, LocalDateTime start, int durationMinutes,
+                      Supplier<T> writer, Function<T, UUID> idOf) {
+        DoctorSchedule.Interval interval = new DoctorSchedule.Interval(null, start, durationMinutes);
+        ReentrantLock lock = stripeFor(doctorId);
+        lock.lock();
+        try {
+            DoctorSchedule schedule = scheduleFor(doctorId);
+            if (schedule.overlaps(interval.start(), interval.end())) {
+                throw new BusinessException("APPOINTMENT_CONFLICT", "Doctor already has an appointment at this time", 409);
+            }
+            schedule.add(interval);
+        } finally {
+            lock.unlock();
+        }
+
+        T written;
+        try {
+            written = writer.get();
+        } catch (RuntimeException e) {
+            remove(doctorId, interval);
+            throw e;
+        }
+
+        withLock(doctorId, schedule -> schedule.attach(interval, idOf.apply(written)));
+        TransactionCallbacks.afterRollback(() -> remove(doctorId, interval));
+        return written;
+    }
+
+    /**
+     * Frees the appointment's interval once the current transaction commits.
+     */
+    public void release(UUID doctorId, UUID appointmentId) {
+        TransactionCallbacks.afterCommit(() -> withLock(doctorId, schedule -> {
+            DoctorSchedule.Interval interval = schedule.find(appointmentId);
+            if (interval != null) {
+                schedule.remove(interval);
+            }
+        }));
+    }
+
+    /**
+     * Moves the appointment's interval to its new start once the current transaction commits. The
+     * database has already checked the new slot, so no overlap check is made here.
+     */
+    public void move(UUID doctorId, UUID appointmentId, LocalDateTime start, int durationMinutes) {
+        TransactionCallbacks.afterCommit(() -> withLock(doctorId, schedule -> {
+            DoctorSchedule.Interval interval = schedule.find(appointmentId);
+            if (interval != null) {
+                schedule.remove(interval);
+            }
+            schedule.add(new DoctorSchedule.Interval(appointmentId, start, durationMinutes));
+        }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<UUID, List<BookedIntervalDto>> byDoctor = appointmentRepository
+                .findActiveIntervalsFrom(retentionCutoff(), INACTIVE_STATUSES).stream()
+                .collect(Collectors.groupingBy(BookedIntervalDto::getDoctorId));
+
+        byDoctor.forEach((doctorId, intervals) -> {
+            ReentrantLock lock = stripeFor(doctorId);
+            lock.lock();
+            try {
+                // A doctor loaded on demand meanwhile may hold reservations the snapshot lacks, and
+                // one changed since the snapshot was read is read again under the lock
+                if (!schedules.containsKey(doctorId)) {
+                    schedules.put(doctorId, changedDuringRebuild.contains(doctorId)
+                            ? toSchedule(appointmentRepository.findActiveIntervalsByDoctorFrom(
+                                    doctorId, retentionCutoff(), INACTIVE_STATUSES))
+                            : toSchedule(intervals));
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+        rebuilt = true;
+        changedDuringRebuild.clear();
+
+        log.info("Rebuilt booking index for {} doctors in {} ms",
+                byDoctor.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.prune-interval-ms:3600000}",
+            initialDelayString = "${app.booking.prune-interval-ms:3600000}")
+    public void prune() {
+        LocalDateTime cutoff = retentionCutoff();
+        for (UUID doctorId : schedules.keySet()) {
+            ReentrantLock lock = stripeFor(doctorId);
+            lock.lock();
+            try {
+                DoctorSchedule schedule = schedules.get(doctorId);
+                if (schedule != null) {
+                    schedule.pruneEndedBefore(cutoff);
+                    if (schedule.size() == 0) {
+                        schedules.remove(doctorId);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Must be called with the doctor's stripe held
+    private DoctorSchedule scheduleFor(UUID doctorId) {
+        DoctorSchedule schedule = schedules.get(doctorId);
+        if (schedule == null) {
+            // After the rebuild every doctor with bookings has a schedule, so a missing one is empty
+            schedule = rebuilt
+                    ? new DoctorSchedule()
+                    : toSchedule(appointmentRepository.findActiveIntervalsByDoctorFrom(
+                            doctorId, retentionCutoff(), INACTIVE_STATUSES));
+            schedules.put(doctorId, schedule);
+        }
+        return schedule;
+    }
+
+    private void remove(UUID doctorId, DoctorSchedule.Interval interval) {
+        withLock(doctorId, schedule -> schedule.remove(interval));
+    }
+
+    private void withLock(UUID doctorId, Consumer<DoctorSchedule> action) {
+        ReentrantLock lock = stripeFor(doctorId);
+        lock.lock();
+        try {
+            DoctorSchedule schedule = schedules.get(doctorId);
+            if (schedule != null) {
+                action.accept(schedule);
+            } else if (!rebuilt) {
+                changedDuringRebuild.add(doctorId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(UUID doctorId) {
+        int hash = doctorId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private LocalDateTime retentionCutoff() {
+        return LocalDateTime.now().minusHours(retentionHours);
+    }
+
+    private static DoctorSchedule toSchedule(List<BookedIntervalDto> intervals) {
+        DoctorSchedule schedule = new DoctorSchedule();
+        for (BookedIntervalDto booked : intervals) {
+            int duration = booked.getDurationMinutes() != null ? booked.getDurationMinutes() : 30;
+            schedule.add(new DoctorSchedule.Interval(booked.getAppointmentId(), booked.getStartTime(), duration));
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,132 @@
+package com.docmate.appointment.booking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Booked intervals of one doctor, ordered by start time. Not thread-safe: every access goes
+ * through the doctor's lock stripe in {@link BookingEngine}.
+ * <p>
+ * An interval can only overlap {@code [start, end)} if it starts after {@code start} minus the
+ * longest booked duration, so an overlap check is one ordered range lookup over the few
+ * intervals in that window rather than a scan of the whole calendar.
+ */
+final class DoctorSchedule {
+
+    private final NavigableMap<LocalDateTime, List<Interval>> byStart = new TreeMap<>();
+    private final Map<UUID, Interval> byAppointment = new HashMap<>();
+    private long maxDurationMinutes;
+    private int size;
+
+    boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime windowStart = start.minusMinutes(maxDurationMinutes);
+        for (List<Interval> intervals : byStart.subMap(windowStart, false, end, false).values()) {
+            for (Interval interval : intervals) {
+                if (interval.end().isAfter(start)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    void add(Interval interval) {
+        byStart.computeIfAbsent(interval.start(), key -> new ArrayList<>(1)).add(interval);
+        if (interval.appointmentId() != null) {
+            byAppointment.put(interval.appointmentId(), interval);
+        }
+        maxDurationMinutes = Math.max(maxDurationMinutes, interval.durationMinutes());
+        size++;
+    }
+
+    void attach(Interval interval, UUID appointmentId) {
+        interval.appointmentId = appointmentId;
+        byAppointment.put(appointmentId, interval);
+    }
+
+    boolean remove(Interval interval) {
+        List<Interval> intervals = byStart.get(interval.start());
+        if (intervals == null || !intervals.remove(interval)) {
+            return false;
+        }
+        if (intervals.isEmpty()) {
+            byStart.remove(interval.start());
+        }
+        if (interval.appointmentId() != null) {
+            byAppointment.remove(interval.appointmentId(), interval);
+        }
+        size--;
+        return true;
+    }
+
+    Interval find(UUID appointmentId) {
+        return byAppointment.get(appointmentId);
+    }
+
+    // Drops intervals that ended before the cutoff; they can no longer conflict with a booking
+    void pruneEndedBefore(LocalDateTime cutoff) {
+        Iterator<List<Interval>> entries = byStart.headMap(cutoff, false).values().iterator();
+        while (entries.hasNext()) {
+            List<Interval> intervals = entries.next();
+            intervals.removeIf(interval -> {
+                if (interval.end().isAfter(cutoff)) {
+                    return false;
+                }
+                if (interval.appointmentId() != null) {
+                    byAppointment.remove(interval.appointmentId(), interval);
+                }
+                size--;
+                return true;
+            });
+            if (intervals.isEmpty()) {
+                entries.remove();
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * A booked or reserved interval. The appointment id is attached once the appointment row has
+     * been written; identity, not value equality, distinguishes intervals.
+     */
+    static final class Interval {
+
+        private final LocalDateTime start;
+        private final long durationMinutes;
+        private final LocalDateTime end;
+        private UUID appointmentId;
+
+        Interval(UUID appointmentId, LocalDateTime start, long durationMinutes) {
+            this.appointmentId = appointmentId;
+            this.start = start;
+            this.durationMinutes = durationMinutes;
+            this.end = start.plusMinutes(durationMinutes);
+        }
+
+        LocalDateTime start() {
+            return start;
+        }
+
+        LocalDateTime end() {
+            return end;
+        }
+
+        long durationMinutes() {
+            return durationMinutes;
+        }
+
+        UUID appointmentId() {
+            return appointmentId;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.docmate.appointment.booking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A slot of a recurring rule that several patients can book at once, up to its capacity.
+ */
+public record SharedSlot(UUID doctorId, LocalDateTime start, int capacity) {
+}
@@ -0,0 +1,56 @@
+package com.docmate.appointment.booking;
+
+import com.docmate.appointment.calendar.DoctorCalendarCache;
+import com.docmate.appointment.dto.ExpiredHoldView;
+import com.docmate.appointment.event.SlotFreedEvent;
+import com.docmate.appointment.repository.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes slot holds whose {@code held_until} has passed and frees their intervals in the
+ * booking engine, or their seats for holds on shared slots. A hold can outlive its expiry by at most one sweep interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotHoldSweeper {
+
+    private final AppointmentRepository appointmentRepository;
+    private final BookingEngine bookingEngine;
+    private final SlotSeats slotSeats;
+    private final DoctorCalendarCache calendarCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.booking.holds.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.booking.holds.sweep-interval-ms:10000}")
+    public void sweepExpiredHolds() {
+        List<ExpiredHoldView> expired = appointmentRepository.deleteExpiredHolds(LocalDateTime.now(), batchSize);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        expired.forEach(hold -> {
+            if (Boolean.TRUE.equals(hold.getSharedSlot())) {
+                slotSeats.release(hold.getDoctorId(), hold.getAppointmentDateTime());
+            } else {
+                bookingEngine.release(hold.getDoctorId(), hold.getId());
+            }
+            calendarCache.removed(hold.getDoctorId(), hold.getId());
+            eventPublisher.publishEvent(SlotFreedEvent.of(hold.getDoctorId(), hold.getAppointmentDateTime(),
+                    hold.getDurationMinutes()));
+        });
+        log.info("Released {} expired slot holds", expired.size());
+    }
+}
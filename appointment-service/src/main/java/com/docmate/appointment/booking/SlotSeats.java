@@ -0,0 +1,136 @@
+package com.docmate.appointment.booking;
+
+import com.docmate.appointment.repository.AppointmentRepository;
+import com.docmate.common.exception.BusinessException;
+import com.docmate.common.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seats left in shared slots. Each slot's count lives in {@code slot_capacity}, where a seat is
+ * taken by a guarded decrement that never goes below zero; a counter in memory mirrors it so that
+ * a full slot is turned away with a compare-and-set instead of a row lock.
+ * <p>
+ * A counter may lag behind another instance's releases. A booking it turns away refreshes it from
+ * the database once before giving up, so a stale counter never rejects a seat that is free.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotSeats {
+
+    private final AppointmentRepository appointmentRepository;
+
+    private final Map<SeatKey, Seats> seats = new ConcurrentHashMap<>();
+
+    /**
+     * Takes a seat of the slot for the current transaction; it is given back if the transaction
+     * rolls back.
+     *
+     * @throws BusinessException {@code SLOT_FULL} if every seat is taken
+     */
+    public void take(SharedSlot slot) {
+        SeatKey key = new SeatKey(slot.doctorId(), slot.start());
+        Seats counter = seats.computeIfAbsent(key, k -> new Seats(slot.capacity()));
+        if (!counter.tryTake()) {
+            counter.set(appointmentRepository.findRemainingSeats(slot.doctorId(), slot.start()).orElse(slot.capacity()));
+            if (!counter.tryTake()) {
+                throw slotFull();
+            }
+        }
+
+        Integer remaining;
+        try {
+            remaining = appointmentRepository.takeSeat(slot.doctorId(), slot.start(), slot.capacity(), LocalDateTime.now())
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            counter.give();
+            throw e;
+        }
+        if (remaining == null) {
+            counter.set(0);
+            throw slotFull();
+        }
+        TransactionCallbacks.afterRollback(counter::give);
+    }
+
+    /**
+     * Gives a seat of the slot back. Callers release only after a conditional status change
+     * matched, and the database never raises a slot above its capacity, so a repeated release
+     * frees nothing.
+     */
+    public void release(UUID doctorId, LocalDateTime start) {
+        if (appointmentRepository.releaseSeat(doctorId, start, LocalDateTime.now()).isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Seats counter = seats.get(new SeatKey(doctorId, start));
+            if (counter != null) {
+                counter.give();
+            }
+        });
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.booking.seats.prune-cron:0 15 * * * *}")
+    public void prunePastSlots() {
+        LocalDateTime now = LocalDateTime.now();
+        seats.keySet().removeIf(key -> key.start().isBefore(now));
+        int deleted = appointmentRepository.deleteSeatsBefore(now.minusDays(1));
+        if (deleted > 0) {
+            log.info("Pruned {} past shared slot counters", deleted);
+        }
+    }
+
+    private static BusinessException slotFull() {
+        return new BusinessException("SLOT_FULL", "No seats left in this slot", 409);
+    }
+
+    private record SeatKey(UUID doctorId, LocalDateTime start) {
+    }
+
+    private static final class Seats {
+
+        private final int capacity;
+        private final AtomicInteger remaining;
+
+        Seats(int capacity) {
+            this.capacity = capacity;
+            this.remaining = new AtomicInteger(capacity);
+        }
+
+        boolean tryTake() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void give() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current >= capacity) {
+                    return;
+                }
+            } while (!remaining.compareAndSet(current, current + 1));
+        }
+
+        void set(int value) {
+            remaining.set(Math.max(0, Math.min(value, capacity)));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.docmate.appointment.calendar;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A committed change to one appointment row, as published on the {@code appointment_changes}
+ * channel. {@code date} is the row's day after the change, or before it for a deletion;
+ * {@code version} is null when the row was deleted.
+ */
+record AppointmentChange(UUID doctorId, UUID appointmentId, LocalDate date, Long version) {
+
+    static final String CHANNEL = "appointment_changes";
+
+    /**
+     * Parses a payload of the form {@code <doctorId>:<appointmentId>:<date>:<version>}, with
+     * {@code -} as the version of a deleted row; empty if malformed.
+     */
+    static Optional<AppointmentChange> parse(String payload) {
+        String[] parts = payload.split(":", -1);
+        if (parts.length != 4) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new AppointmentChange(
+                    UUID.fromString(parts[0]),
+                    UUID.fromString(parts[1]),
+                    LocalDate.parse(parts[2]),
+                    "-".equals(parts[3]) ? null : Long.valueOf(parts[3])));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    boolean deleted() {
+        return version == null;
+    }
+}
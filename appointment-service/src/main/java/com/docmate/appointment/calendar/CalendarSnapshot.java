@@ -0,0 +1,153 @@
+package com.docmate.appointment.calendar;
+
+import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.appointment.dto.CalendarView;
+import com.docmate.appointment.dto.CalendarViewDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A doctor's day and week views for one date. Immutable: a change produces a new snapshot, so
+ * readers never see a view being modified.
+ */
+final class CalendarSnapshot {
+
+    private static final Comparator<AppointmentDto> BY_TIME = Comparator
+            .comparing(AppointmentDto::getAppointmentDateTime)
+            .thenComparing(AppointmentDto::getId);
+
+    private final LocalDate day;
+    private final CalendarViewDto today;
+    private final CalendarViewDto week;
+
+    private CalendarSnapshot(LocalDate day, CalendarViewDto today, CalendarViewDto week) {
+        this.day = day;
+        this.today = today;
+        this.week = week;
+    }
+
+    static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    static LocalDate weekEnd(LocalDate day) {
+        return weekStart(day).plusDays(6);
+    }
+
+    static CalendarSnapshot of(UUID doctorId, LocalDate day, List<AppointmentDto> weekAppointments, long version) {
+        List<AppointmentDto> sorted = new ArrayList<>(weekAppointments);
+        sorted.sort(BY_TIME);
+        return build(doctorId, day, sorted, version);
+    }
+
+    LocalDate day() {
+        return day;
+    }
+
+    CalendarViewDto view(CalendarView view) {
+        return view == CalendarView.WEEK ? week : today;
+    }
+
+    /**
+     * Returns a snapshot with the appointment replaced, added or dropped according to its new
+     * time, or this snapshot if the appointment is not and was not part of this week.
+     */
+    CalendarSnapshot with(AppointmentDto appointment, long version) {
+        boolean inWeek = covers(appointment);
+        if (!inWeek && !contains(appointment.getId())) {
+            return this;
+        }
+        List<AppointmentDto> appointments = new ArrayList<>(week.getAppointments().size() + 1);
+        for (AppointmentDto existing : week.getAppointments()) {
+            if (!existing.getId().equals(appointment.getId())) {
+                appointments.add(existing);
+            }
+        }
+        if (inWeek) {
+            appointments.add(appointment);
+            appointments.sort(BY_TIME);
+        }
+        return build(week.getDoctorId(), day, appointments, version);
+    }
+
+    CalendarSnapshot without(UUID appointmentId, long version) {
+        if (!contains(appointmentId)) {
+            return this;
+        }
+        List<AppointmentDto> appointments = week.getAppointments().stream()
+                .filter(existing -> !existing.getId().equals(appointmentId))
+                .toList();
+        return build(week.getDoctorId(), day, appointments, version);
+    }
+
+    /**
+     * Whether the snapshot already reflects the change: a deleted appointment is absent, and a
+     * changed one is present at that version or later, or absent and off this week.
+     */
+    boolean reflects(AppointmentChange change) {
+        Optional<AppointmentDto> current = find(change.appointmentId());
+        if (current.isEmpty()) {
+            return change.deleted() || !covers(change.date());
+        }
+        if (change.deleted()) {
+            return false;
+        }
+        Long version = current.get().getVersion();
+        return version != null && version >= change.version();
+    }
+
+    /**
+     * Whether the appointment's state is newer than the one in this snapshot, if present.
+     */
+    boolean isNewer(AppointmentDto appointment) {
+        Long version = find(appointment.getId()).map(AppointmentDto::getVersion).orElse(null);
+        return version == null || appointment.getVersion() == null || appointment.getVersion() > version;
+    }
+
+    private boolean covers(AppointmentDto appointment) {
+        return covers(appointment.getAppointmentDateTime().toLocalDate());
+    }
+
+    private boolean covers(LocalDate date) {
+        return !date.isBefore(week.getFrom()) && !date.isAfter(week.getTo());
+    }
+
+    private boolean contains(UUID appointmentId) {
+        return find(appointmentId).isPresent();
+    }
+
+    private Optional<AppointmentDto> find(UUID appointmentId) {
+        return week.getAppointments().stream().filter(existing -> existing.getId().equals(appointmentId)).findFirst();
+    }
+
+    // Expects the appointments already sorted by time
+    private static CalendarSnapshot build(UUID doctorId, LocalDate day, List<AppointmentDto> weekAppointments, long version) {
+        List<AppointmentDto> todays = weekAppointments.stream()
+                .filter(appointment -> appointment.getAppointmentDateTime().toLocalDate().equals(day))
+                .toList();
+        CalendarViewDto today = CalendarViewDto.builder()
+                .doctorId(doctorId)
+                .view(CalendarView.DAY)
+                .from(day)
+                .to(day)
+                .version(version)
+                .appointments(todays)
+                .build();
+        CalendarViewDto week = CalendarViewDto.builder()
+                .doctorId(doctorId)
+                .view(CalendarView.WEEK)
+                .from(weekStart(day))
+                .to(weekEnd(day))
+                .version(version)
+                .appointments(List.copyOf(weekAppointments))
+                .build();
+        return new CalendarSnapshot(day, today, week);
+    }
+}
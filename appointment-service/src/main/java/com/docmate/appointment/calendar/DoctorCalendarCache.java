@@ -0,0 +1,146 @@
+package com.docmate.appointment.calendar;
+
+import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.appointment.dto.CalendarView;
+import com.docmate.appointment.dto.CalendarViewDto;
+import com.docmate.appointment.entity.Appointment;
+import com.docmate.appointment.mapper.AppointmentMapper;
+import com.docmate.appointment.repository.AppointmentRepository;
+import com.docmate.common.notify.NotificationHandler;
+import com.docmate.common.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-doctor day and week calendar views, kept current by applying each committed appointment
+ * change to the cached snapshot instead of re-querying. A snapshot is loaded on first read and
+ * dropped at day rollover.
+ * <p>
+ * Loads and changes for a doctor both go through the map's per-key compute, so a change that
+ * commits while the doctor's snapshot is loading is applied to the loaded snapshot afterwards.
+ * Every committed appointment row change, including this instance's own, arrives on the
+ * {@code appointment_changes} channel with the row's version. Changes the snapshot already
+ * reflects are skipped; any other change re-reads just that appointment and applies it, and an
+ * appointment is only ever replaced by a newer version. Snapshots are only kept while the channel
+ * is being listened to; otherwise every read loads the week.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DoctorCalendarCache implements NotificationHandler {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentMapper appointmentMapper;
+
+    private final Map<UUID, CalendarSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    // Seeded from the clock so that versions, and the ETags built from them, do not repeat across restarts
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis());
+
+    private volatile boolean enabled;
+
+    public CalendarViewDto get(UUID doctorId, CalendarView view) {
+        LocalDate today = LocalDate.now();
+        if (!enabled) {
+            return load(doctorId, today).view(view);
+        }
+        CalendarSnapshot snapshot = snapshots.get(doctorId);
+        if (snapshot == null || !snapshot.day().equals(today)) {
+            snapshot = snapshots.compute(doctorId, (id, current) ->
+                    current != null && current.day().equals(today) ? current : load(id, today));
+        }
+        return snapshot.view(view);
+    }
+
+    /**
+     * Applies the appointment's committed state to its doctor's snapshot once the transaction commits.
+     */
+    public void updated(Appointment appointment) {
+        TransactionCallbacks.afterCommit(() -> apply(appointment.getDoctorId(), appointmentMapper.toDto(appointment)));
+    }
+
+    /**
+     * Drops a deleted appointment from its doctor's snapshot once the transaction commits.
+     */
+    public void removed(UUID doctorId, UUID appointmentId) {
+        TransactionCallbacks.afterCommit(() -> snapshots.computeIfPresent(doctorId,
+                (id, snapshot) -> snapshot.without(appointmentId, versions.incrementAndGet())));
+    }
+
+    @Override
+    public String channel() {
+        return AppointmentChange.CHANNEL;
+    }
+
+    @Override
+    public void notified(String payload) {
+        AppointmentChange.parse(payload).ifPresentOrElse(this::changed,
+                () -> log.warn("Ignoring malformed appointment change '{}'", payload));
+    }
+
+    void changed(AppointmentChange change) {
+        CalendarSnapshot snapshot = snapshots.get(change.doctorId());
+        if (snapshot == null || snapshot.reflects(change)) {
+            return;
+        }
+        // Another instance's change, or this instance's before its commit callback ran
+        Optional<AppointmentDto> current = change.deleted()
+                ? Optional.empty()
+                : appointmentRepository.findById(change.appointmentId()).map(appointmentMapper::toDto);
+        if (current.isPresent()) {
+            apply(change.doctorId(), current.get());
+        } else {
+            snapshots.computeIfPresent(change.doctorId(),
+                    (id, cached) -> cached.without(change.appointmentId(), versions.incrementAndGet()));
+        }
+    }
+
+    // Changes may have been missed while not listening, so every snapshot is dropped
+    @Override
+    public void enable() {
+        snapshots.clear();
+        enabled = true;
+    }
+
+    @Override
+    public void disable() {
+        enabled = false;
+        snapshots.clear();
+    }
+
+    @Scheduled(cron = "${app.calendar.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        int evicted = snapshots.size();
+        snapshots.clear();
+        log.info("Evicted {} doctor calendar snapshots at day rollover", evicted);
+    }
+
+    private void apply(UUID doctorId, AppointmentDto appointment) {
+        snapshots.computeIfPresent(doctorId, (id, snapshot) -> snapshot.isNewer(appointment)
+                ? snapshot.with(appointment, versions.incrementAndGet())
+                : snapshot);
+    }
+
+    private CalendarSnapshot load(UUID doctorId, LocalDate today) {
+        return CalendarSnapshot.of(doctorId, today,
+                appointmentRepository.findByDoctorIdAndAppointmentDateTimeBetweenOrderByAppointmentDateTime(
+                                doctorId,
+                                CalendarSnapshot.weekStart(today).atStartOfDay(),
+                                // Between is inclusive; Postgres timestamps have microsecond precision
+                                CalendarSnapshot.weekEnd(today).plusDays(1).atStartOfDay().minus(1, ChronoUnit.MICROS))
+                        .stream()
+                        .map(appointmentMapper::toDto)
+                        .toList(),
+                versions.incrementAndGet());
+    }
+}
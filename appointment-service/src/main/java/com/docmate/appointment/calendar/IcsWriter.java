@@ -0,0 +1,84 @@
+package com.docmate.appointment.calendar;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes an iCalendar (RFC 5545) stream property by property, so a feed is never held in memory
+ * as a whole. Lines end in CRLF and are folded before they exceed 75 octets.
+ */
+public final class IcsWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Writer writer;
+    private final ZoneId zone;
+
+    public IcsWriter(Writer writer, ZoneId zone) {
+        this.writer = writer;
+        this.zone = zone;
+    }
+
+    public IcsWriter property(String name, String value) throws IOException {
+        String line = name + ":" + value;
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int width = utf8Length(codePoint);
+            if (octets + width > MAX_LINE_OCTETS) {
+                // A continuation line starts with a space, which counts towards its length
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            int chars = Character.charCount(codePoint);
+            writer.write(line, i, chars);
+            octets += width;
+            i += chars;
+        }
+        writer.write("\r\n");
+        return this;
+    }
+
+    public IcsWriter text(String name, String value) throws IOException {
+        return property(name, escape(value));
+    }
+
+    public IcsWriter dateTime(String name, LocalDateTime value) throws IOException {
+        return property(name, UTC_DATE_TIME.format(value.atZone(zone).withZoneSameInstant(ZoneOffset.UTC)));
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    // TEXT values escape backslashes, separators and line breaks
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
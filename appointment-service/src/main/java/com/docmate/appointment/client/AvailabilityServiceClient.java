@@ -0,0 +1,33 @@
+package com.docmate.appointment.client;
+
+import com.docmate.common.dto.AvailabilityDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilityServiceClient {
+
+    private final ServiceHttpClient httpClient;
+
+    @Value("${app.clients.availability-service-url:http://localhost:8088}")
+    private String baseUrl;
+
+    public CompletableFuture<List<AvailabilityDto>> getRecurringSchedule(UUID doctorId) {
+        return httpClient.getList(baseUrl + "/api/availability/schedule/" + doctorId, AvailabilityDto.class)
+                .thenApply(schedule -> schedule.orElse(List.of()));
+    }
+
+    // Checks recurring and one-off availability alike
+    public CompletableFuture<Boolean> isDoctorAvailable(UUID doctorId, LocalDateTime dateTime, int durationMinutes) {
+        String url = baseUrl + "/api/availability/check/" + doctorId
+                + "?dateTime=" + dateTime + "&durationMinutes=" + durationMinutes;
+        return httpClient.get(url, Boolean.class).thenApply(available -> available.orElse(false));
+    }
+}
@@ -0,0 +1,24 @@
+package com.docmate.appointment.client;
+
+import com.docmate.appointment.dto.PaymentSummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentServiceClient {
+
+    private final ServiceHttpClient httpClient;
+
+    @Value("${app.clients.payment-service-url:http://localhost:8084}")
+    private String baseUrl;
+
+    public CompletableFuture<Optional<PaymentSummaryDto>> getPayment(UUID paymentId) {
+        return httpClient.get(baseUrl + "/api/payments/" + paymentId, PaymentSummaryDto.class);
+    }
+}
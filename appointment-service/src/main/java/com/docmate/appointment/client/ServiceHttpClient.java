@@ -0,0 +1,169 @@
+package com.docmate.appointment.client;
+
+import com.docmate.common.dto.response.ApiResponse;
+import com.docmate.common.exception.BusinessException;
+import com.docmate.common.security.ServiceTokenFilter;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking JSON calls to the other DocMate services. One shared client keeps connections to
+ * each service alive between calls, every call is bounded by a connect and a request timeout, and
+ * results arrive as futures so that independent calls can run side by side.
+ * <p>
+ * Calls authenticate with the shared service token, so they work the same from request threads
+ * and from background work such as waitlist offers. Only while no token is configured is the
+ * caller's Authorization header, if any, passed on instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServiceHttpClient {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.clients.connect-timeout-ms:500}")
+    private long connectTimeoutMs;
+
+    @Value("${app.clients.request-timeout-ms:2000}")
+    private long requestTimeoutMs;
+
+    @Value("${app.clients.threads:8}")
+    private int threads;
+
+    @Value("${app.service-token:}")
+    private String serviceToken;
+
+    private ExecutorService executor;
+    private HttpClient httpClient;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "service-client-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * GETs an {@link ApiResponse} and completes with its data, or with empty if the resource does not exist.
+     */
+    public <T> CompletableFuture<Optional<T>> get(String url, Class<T> dataType) {
+        return get(url, objectMapper.getTypeFactory().constructType(dataType));
+    }
+
+    public <T> CompletableFuture<Optional<List<T>>> getList(String url, Class<T> elementType) {
+        return get(url, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    /**
+     * Waits for a call, rethrowing its failure as thrown rather than wrapped.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<Optional<T>> get(String url, JavaType dataType) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET();
+        if (!serviceToken.isEmpty()) {
+            request.header(ServiceTokenFilter.HEADER, serviceToken);
+        } else {
+            String authorization = currentAuthorization();
+            if (authorization != null) {
+                request.header(HttpHeaders.AUTHORIZATION, authorization);
+            }
+        }
+
+        JavaType responseType = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw unavailable(url, error instanceof CompletionException ? error.getCause() : error);
+                    }
+                    return read(url, response, responseType);
+                });
+    }
+
+    private <T> Optional<T> read(String url, HttpResponse<byte[]> response, JavaType responseType) {
+        int status = response.statusCode();
+        if (status == 404) {
+            return Optional.empty();
+        }
+        if (status < 200 || status >= 300) {
+            log.warn("GET {} returned {}", url, status);
+            throw new BusinessException("UPSTREAM_ERROR", "A dependent service rejected the request", 502);
+        }
+        try {
+            ApiResponse<T> body = objectMapper.readValue(response.body(), responseType);
+            return Optional.ofNullable(body.getData());
+        } catch (IOException e) {
+            log.warn("GET {} returned an unreadable body", url, e);
+            throw new BusinessException("UPSTREAM_ERROR", "A dependent service returned an invalid response", 502);
+        }
+    }
+
+    private static BusinessException unavailable(String url, Throwable error) {
+        if (error instanceof HttpTimeoutException) {
+            log.warn("GET {} timed out", url);
+        } else {
+            log.warn("GET {} failed: {}", url, error.toString());
+        }
+        return new BusinessException("SERVICE_UNAVAILABLE", "A dependent service is unavailable", 503);
+    }
+
+    // Read on the calling thread; the call itself completes on a client thread without a request
+    private static String currentAuthorization() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.docmate.appointment.client;
+
+import com.docmate.common.dto.AccountStatusDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class UserServiceClient {
+
+    private final ServiceHttpClient httpClient;
+
+    @Value("${app.clients.user-service-url:http://localhost:8082}")
+    private String baseUrl;
+
+    public CompletableFuture<Optional<AccountStatusDto>> getDoctorStatus(UUID doctorId) {
+        return httpClient.get(baseUrl + "/api/doctors/" + doctorId + "/status", AccountStatusDto.class);
+    }
+
+    public CompletableFuture<Optional<AccountStatusDto>> getPatientStatus(UUID patientId) {
+        return httpClient.get(baseUrl + "/api/patients/" + patientId + "/status", AccountStatusDto.class);
+    }
+}
@@ -1,25 +1,41 @@
 package com.docmate.appointment.controller;
 
 import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.appointment.dto.BatchCancelRequest;
+import com.docmate.appointment.dto.BatchConfirmRequest;
+import com.docmate.appointment.dto.BatchOperationResponse;
+import com.docmate.appointment.dto.BatchRescheduleRequest;
+import com.docmate.appointment.dto.CalendarView;
+import com.docmate.appointment.dto.CalendarViewDto;
 import com.docmate.appointment.dto.CreateAppointmentRequest;
+import com.docmate.appointment.dto.ExportFormat;
+import com.docmate.appointment.service.AppointmentBatchService;
+import com.docmate.appointment.service.AppointmentExportService;
 import com.docmate.appointment.service.AppointmentService;
 import com.docmate.common.dto.response.ApiResponse;
 import com.docmate.common.dto.response.PageResponse;
 import com.docmate.common.entity.User;
+import com.docmate.common.enums.AppointmentStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +48,8 @@ import java.util.UUID;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final AppointmentBatchService appointmentBatchService;
+    private final AppointmentExportService appointmentExportService;
 
     @PostMapping
     @Operation(summary = "Book appointment", description = "Book a new appointment with a doctor")
@@ -45,6 +63,57 @@ public class AppointmentController {
         return ResponseEntity.ok(ApiResponse.success("Appointment booked successfully", appointment));
     }
 
+    @PostMapping("/holds")
+    @Operation(summary = "Hold slot", description = "Reserve a slot for a few minutes while the patient completes payment")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<ApiResponse<AppointmentDto>> holdSlot(
+            @Valid @RequestBody CreateAppointmentRequest request,
+            @RequestParam(required = false) Integer holdMinutes,
+            @AuthenticationPrincipal User currentUser) {
+        request.setPatientId(currentUser.getId());
+        AppointmentDto hold = appointmentService.holdSlot(request, holdMinutes);
+        return ResponseEntity.ok(ApiResponse.success("Slot held successfully", hold));
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    @Operation(summary = "Confirm slot hold",
+            description = "Convert a held slot into an appointment once its payment has completed (Admin only); "
+                    + "holds are normally converted by payment-service's payment events")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<AppointmentDto>> confirmHold(
+            @PathVariable UUID holdId,
+            @RequestParam UUID paymentId) {
+        AppointmentDto appointment = appointmentService.confirmHold(holdId, paymentId);
+        return ResponseEntity.ok(ApiResponse.success("Appointment booked successfully", appointment));
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(summary = "Release slot hold", description = "Release a held slot before it expires")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(
+            @PathVariable UUID holdId,
+            @AuthenticationPrincipal User currentUser) {
+        appointmentService.releaseHold(holdId, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Slot hold released", null));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export appointments", description = "Stream appointments by status and time range as NDJSON or CSV (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportAppointments(
+            @RequestParam(required = false) List<AppointmentStatus> status,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        appointmentExportService.validateRange(from, to);
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"appointments." + format.getExtension() + "\"");
+        appointmentExportService.export(status, from, to, format, response.getOutputStream());
+    }
+
     @GetMapping("/{appointmentId}")
     @Operation(summary = "Get appointment details", description = "Get appointment details by ID")
     public ResponseEntity<ApiResponse<AppointmentDto>> getAppointment(@PathVariable UUID appointmentId) {
@@ -88,6 +157,21 @@ public class AppointmentController {
         return ResponseEntity.ok(ApiResponse.success(pageResponse));
     }
 
+    @GetMapping("/doctor/my/calendar")
+    @Operation(summary = "Get doctor calendar", description = "Get current doctor's appointments for today or this week; supports If-None-Match")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ResponseEntity<ApiResponse<CalendarViewDto>> getMyCalendar(
+            @RequestParam(defaultValue = "DAY") CalendarView view,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal User currentUser) {
+        CalendarViewDto calendar = appointmentService.getDoctorCalendar(currentUser.getId(), view);
+        String eTag = "\"" + calendar.getVersion() + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(calendar));
+    }
+
     @GetMapping("/upcoming")
     @Operation(summary = "Get upcoming appointments", description = "Get upcoming appointments for current user")
     public ResponseEntity<ApiResponse<List<AppointmentDto>>> getUpcomingAppointments(
@@ -124,4 +208,34 @@ public class AppointmentController {
         AppointmentDto appointment = appointmentService.completeAppointment(appointmentId, notes);
         return ResponseEntity.ok(ApiResponse.success("Appointment completed successfully", appointment));
     }
+
+    @PostMapping("/batch/cancel")
+    @Operation(summary = "Cancel doctor's appointments", description = "Cancel all of a doctor's active appointments in a time range (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BatchOperationResponse>> cancelDoctorAppointments(
+            @Valid @RequestBody BatchCancelRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        BatchOperationResponse response = appointmentBatchService.cancelByDoctor(request, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Appointments cancelled", response));
+    }
+
+    @PostMapping("/batch/confirm")
+    @Operation(summary = "Confirm appointments", description = "Confirm several scheduled appointments at once (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BatchOperationResponse>> confirmAppointments(
+            @Valid @RequestBody BatchConfirmRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        BatchOperationResponse response = appointmentBatchService.confirm(request, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Appointments confirmed", response));
+    }
+
+    @PostMapping("/batch/reschedule")
+    @Operation(summary = "Reschedule appointments", description = "Move several appointments by the same offset (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BatchOperationResponse>> rescheduleAppointments(
+            @Valid @RequestBody BatchRescheduleRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        BatchOperationResponse response = appointmentBatchService.reschedule(request, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Appointments rescheduled", response));
+    }
 }
@@ -0,0 +1,64 @@
+package com.docmate.appointment.controller;
+
+import com.docmate.appointment.dto.CalendarFeedDto;
+import com.docmate.appointment.dto.CalendarFeedOwner;
+import com.docmate.appointment.service.CalendarFeedService;
+import com.docmate.common.dto.response.ApiResponse;
+import com.docmate.common.entity.User;
+import com.docmate.common.enums.UserRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/appointments/calendar")
+@RequiredArgsConstructor
+@Tag(name = "Calendar Feeds", description = "iCalendar feeds of appointments for calendar apps")
+public class CalendarFeedController {
+
+    private final CalendarFeedService calendarFeedService;
+
+    @GetMapping("/feed")
+    @Operation(summary = "Get my calendar feed", description = "Get the signed iCalendar feed URL of the current doctor or patient")
+    @PreAuthorize("hasAnyRole('DOCTOR', 'PATIENT')")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<ApiResponse<CalendarFeedDto>> getMyFeed(@AuthenticationPrincipal User currentUser) {
+        CalendarFeedOwner owner = currentUser.getRole() == UserRole.DOCTOR
+                ? CalendarFeedOwner.DOCTOR
+                : CalendarFeedOwner.PATIENT;
+        return ResponseEntity.ok(ApiResponse.success(calendarFeedService.getFeed(owner, currentUser.getId())));
+    }
+
+    @GetMapping("/feeds/{owner}/{userId}.ics")
+    @Operation(summary = "Get calendar feed", description = "Get an iCalendar feed by its signed URL; supports If-None-Match")
+    public void getFeed(
+            @PathVariable String owner,
+            @PathVariable UUID userId,
+            @RequestParam String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse response) throws IOException {
+        CalendarFeedOwner feedOwner = CalendarFeedOwner.fromPathSegment(owner);
+        calendarFeedService.verify(feedOwner, userId, token);
+
+        String eTag = calendarFeedService.eTag(feedOwner, userId);
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (eTag.equals(ifNoneMatch)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType("text/calendar");
+        response.setCharacterEncoding("UTF-8");
+        calendarFeedService.write(feedOwner, userId, response.getOutputStream());
+    }
+}
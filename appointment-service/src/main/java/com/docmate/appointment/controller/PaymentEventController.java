@@ -0,0 +1,28 @@
+package com.docmate.appointment.controller;
+
+import com.docmate.appointment.dto.PaymentEventMessage;
+import com.docmate.appointment.service.PaymentEventService;
+import com.docmate.common.dto.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/appointments/events")
+@RequiredArgsConstructor
+@Tag(name = "Service Events", description = "Events delivered by other DocMate services")
+public class PaymentEventController {
+
+    private final PaymentEventService paymentEventService;
+
+    @PostMapping("/payments")
+    @Operation(summary = "Receive payment event", description = "Receive a payment-service outbox event; converts paid slot holds")
+    public ResponseEntity<ApiResponse<Void>> receivePaymentEvent(
+            @RequestHeader(value = "X-Outbox-Token", required = false) String token,
+            @RequestBody PaymentEventMessage message) {
+        paymentEventService.handle(message, token);
+        return ResponseEntity.ok(ApiResponse.success("Event received", null));
+    }
+}
@@ -0,0 +1,78 @@
+package com.docmate.appointment.controller;
+
+import com.docmate.appointment.dto.JoinWaitlistRequest;
+import com.docmate.appointment.dto.WaitlistEntryDto;
+import com.docmate.appointment.service.WaitlistService;
+import com.docmate.common.dto.response.ApiResponse;
+import com.docmate.common.dto.response.PageResponse;
+import com.docmate.common.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/appointments/waitlist")
+@RequiredArgsConstructor
+@Tag(name = "Waitlist", description = "Waitlist for freed appointment slots")
+@SecurityRequirement(name = "bearerAuth")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    @Operation(summary = "Join waitlist", description = "Wait for a slot with a doctor within a time range")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<ApiResponse<WaitlistEntryDto>> joinWaitlist(
+            @Valid @RequestBody JoinWaitlistRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        WaitlistEntryDto entry = waitlistService.joinWaitlist(request, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Joined waitlist successfully", entry));
+    }
+
+    @GetMapping("/my")
+    @Operation(summary = "Get my waitlist entries", description = "Get current patient's waitlist entries")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<ApiResponse<PageResponse<WaitlistEntryDto>>> getMyEntries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal User currentUser) {
+        Page<WaitlistEntryDto> entries = waitlistService.getPatientEntries(currentUser.getId(), PageRequest.of(page, size));
+        PageResponse<WaitlistEntryDto> pageResponse = PageResponse.of(
+                entries.getContent(),
+                entries.getNumber(),
+                entries.getSize(),
+                entries.getTotalElements()
+        );
+        return ResponseEntity.ok(ApiResponse.success(pageResponse));
+    }
+
+    @DeleteMapping("/{entryId}")
+    @Operation(summary = "Leave waitlist", description = "Remove a waiting entry")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<ApiResponse<Void>> leaveWaitlist(
+            @PathVariable UUID entryId,
+            @AuthenticationPrincipal User currentUser) {
+        waitlistService.leaveWaitlist(entryId, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Left waitlist", null));
+    }
+
+    @PutMapping("/{entryId}/priority")
+    @Operation(summary = "Set waitlist priority", description = "Change the offer priority of a waiting entry (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<WaitlistEntryDto>> updatePriority(
+            @PathVariable UUID entryId,
+            @RequestParam int priority) {
+        WaitlistEntryDto entry = waitlistService.updatePriority(entryId, priority);
+        return ResponseEntity.ok(ApiResponse.success("Waitlist priority updated", entry));
+    }
+}
@@ -0,0 +1,117 @@
+package com.docmate.appointment.directory;
+
+import com.docmate.appointment.client.AvailabilityServiceClient;
+import com.docmate.appointment.client.UserServiceClient;
+import com.docmate.common.dto.AccountStatusDto;
+import com.docmate.common.dto.AvailabilityDto;
+import com.docmate.common.notify.NotificationHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Local copies of the doctor and patient account statuses and doctors' recurring schedules that
+ * booking checks need, so that most bookings make no remote call at all.
+ * <p>
+ * Entries are dropped as database triggers report changes on the {@code directory_changes}
+ * channel, and only used while it is being listened to; otherwise every lookup goes to the owning
+ * service. Concurrent lookups of a
+ * missing entry share one call, and failed calls are not cached.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectoryCache implements NotificationHandler {
+
+    private static final String CHANNEL = "directory_changes";
+
+    private final UserServiceClient userServiceClient;
+    private final AvailabilityServiceClient availabilityServiceClient;
+
+    private final Map<UUID, CompletableFuture<Optional<AccountStatusDto>>> doctors = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Optional<AccountStatusDto>>> patients = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<List<AvailabilityDto>>> schedules = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    public CompletableFuture<Optional<AccountStatusDto>> getDoctorStatus(UUID doctorId) {
+        return cached(doctors, doctorId, userServiceClient::getDoctorStatus);
+    }
+
+    public CompletableFuture<Optional<AccountStatusDto>> getPatientStatus(UUID patientId) {
+        return cached(patients, patientId, userServiceClient::getPatientStatus);
+    }
+
+    public CompletableFuture<List<AvailabilityDto>> getRecurringSchedule(UUID doctorId) {
+        return cached(schedules, doctorId, availabilityServiceClient::getRecurringSchedule);
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    /**
+     * Applies a change notification of the form {@code <kind>:<id>}.
+     */
+    @Override
+    public void notified(String payload) {
+        int separator = payload.indexOf(':');
+        UUID id;
+        try {
+            id = UUID.fromString(payload.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed directory change '{}'", payload);
+            return;
+        }
+        switch (payload.substring(0, Math.max(separator, 0))) {
+            case "user" -> {
+                doctors.remove(id);
+                patients.remove(id);
+            }
+            case "schedule" -> schedules.remove(id);
+            default -> log.debug("Ignoring directory change '{}'", payload);
+        }
+    }
+
+    // Changes may have been missed while not listening, so everything cached before is dropped
+    @Override
+    public void enable() {
+        clear();
+        enabled = true;
+    }
+
+    @Override
+    public void disable() {
+        enabled = false;
+        clear();
+    }
+
+    private void clear() {
+        doctors.clear();
+        patients.clear();
+        schedules.clear();
+    }
+
+    private <T> CompletableFuture<T> cached(Map<UUID, CompletableFuture<T>> cache, UUID id,
+                                            Function<UUID, CompletableFuture<T>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        CompletableFuture<T> future = cache.computeIfAbsent(id, loader);
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                cache.remove(id, future);
+            }
+        });
+        return future;
+    }
+}
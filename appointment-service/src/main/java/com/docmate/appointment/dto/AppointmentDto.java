@@ -25,6 +25,7 @@ public class AppointmentDto {
     private LocalDateTime appointmentDateTime;
     private ConsultationMode consultationMode;
     private AppointmentStatus status;
+    private LocalDateTime heldUntil;
     private Integer durationMinutes;
     private BigDecimal consultationFee;
     private String reasonForVisit;
@@ -42,6 +43,7 @@ public class AppointmentDto {
     private UUID paymentId;
     private String meetingLink;
     private String meetingId;
+    private Long version;
     private LocalDateTime createdDate;
     private LocalDateTime updatedDate;
 }
@@ -0,0 +1,19 @@
+package com.docmate.appointment.dto;
+
+import com.docmate.common.enums.AppointmentStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface AppointmentStateView {
+
+    UUID getId();
+
+    AppointmentStatus getStatus();
+
+    LocalDateTime getAppointmentDateTime();
+
+    Integer getDurationMinutes();
+
+    Boolean getSharedSlot();
+}
@@ -0,0 +1,30 @@
+package com.docmate.appointment.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCancelRequest {
+
+    @NotNull(message = "Doctor ID is required")
+    private UUID doctorId;
+
+    @NotNull(message = "Range start is required")
+    private LocalDateTime from;
+
+    @NotNull(message = "Range end is required")
+    private LocalDateTime to;
+
+    @NotBlank(message = "Cancellation reason is required")
+    private String reason;
+}
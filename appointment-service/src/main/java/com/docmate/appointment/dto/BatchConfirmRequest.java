@@ -0,0 +1,22 @@
+package com.docmate.appointment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConfirmRequest {
+
+    @NotEmpty(message = "Appointment IDs are required")
+    @Size(max = 500, message = "At most 500 appointments can be confirmed at once")
+    private List<UUID> appointmentIds;
+}
@@ -0,0 +1,24 @@
+package com.docmate.appointment.dto;
+
+import com.docmate.common.enums.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+
+    private UUID appointmentId;
+    private boolean success;
+    private AppointmentStatus status;
+    private LocalDateTime appointmentDateTime;
+    private String errorCode;
+    private String message;
+}
@@ -0,0 +1,7 @@
+package com.docmate.appointment.dto;
+
+public enum BatchOperation {
+    CANCEL,
+    CONFIRM,
+    RESCHEDULE
+}
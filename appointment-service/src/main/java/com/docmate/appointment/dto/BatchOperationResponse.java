@@ -0,0 +1,23 @@
+package com.docmate.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationResponse {
+
+    private UUID batchId;
+    private BatchOperation operation;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> results;
+}
@@ -0,0 +1,26 @@
+package com.docmate.appointment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRescheduleRequest {
+
+    @NotEmpty(message = "Appointment IDs are required")
+    @Size(max = 500, message = "At most 500 appointments can be rescheduled at once")
+    private List<UUID> appointmentIds;
+
+    @NotNull(message = "Offset is required")
+    private Integer offsetMinutes;
+}
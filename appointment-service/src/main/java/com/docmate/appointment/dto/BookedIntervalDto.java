@@ -0,0 +1,21 @@
+package com.docmate.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookedIntervalDto {
+
+    private UUID appointmentId;
+    private UUID doctorId;
+    private LocalDateTime startTime;
+    private Integer durationMinutes;
+}
@@ -0,0 +1,16 @@
+package com.docmate.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarFeedDto {
+
+    private CalendarFeedOwner owner;
+    private String url;
+}
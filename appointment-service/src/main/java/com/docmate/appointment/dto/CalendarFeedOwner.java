@@ -0,0 +1,27 @@
+package com.docmate.appointment.dto;
+
+import com.docmate.common.exception.BusinessException;
+
+public enum CalendarFeedOwner {
+    DOCTOR("doctors"),
+    PATIENT("patients");
+
+    private final String pathSegment;
+
+    CalendarFeedOwner(String pathSegment) {
+        this.pathSegment = pathSegment;
+    }
+
+    public String getPathSegment() {
+        return pathSegment;
+    }
+
+    public static CalendarFeedOwner fromPathSegment(String pathSegment) {
+        for (CalendarFeedOwner owner : values()) {
+            if (owner.pathSegment.equals(pathSegment)) {
+                return owner;
+            }
+        }
+        throw new BusinessException("FEED_NOT_FOUND", "Calendar feed not found", 404);
+    }
+}
@@ -0,0 +1,6 @@
+package com.docmate.appointment.dto;
+
+public enum CalendarView {
+    DAY,
+    WEEK
+}
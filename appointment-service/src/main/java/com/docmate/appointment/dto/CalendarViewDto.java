@@ -0,0 +1,24 @@
+package com.docmate.appointment.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An immutable view of a doctor's appointments between two dates, shared by every request that
+ * reads it until the calendar changes.
+ */
+@Value
+@Builder
+public class CalendarViewDto {
+
+    UUID doctorId;
+    CalendarView view;
+    LocalDate from;
+    LocalDate to;
+    long version;
+    List<AppointmentDto> appointments;
+}
@@ -0,0 +1,17 @@
+package com.docmate.appointment.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ExpiredHoldView {
+
+    UUID getId();
+
+    UUID getDoctorId();
+
+    LocalDateTime getAppointmentDateTime();
+
+    Integer getDurationMinutes();
+
+    Boolean getSharedSlot();
+}
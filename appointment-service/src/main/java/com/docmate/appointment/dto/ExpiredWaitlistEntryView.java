@@ -0,0 +1,10 @@
+package com.docmate.appointment.dto;
+
+import java.util.UUID;
+
+public interface ExpiredWaitlistEntryView {
+
+    UUID getId();
+
+    UUID getDoctorId();
+}
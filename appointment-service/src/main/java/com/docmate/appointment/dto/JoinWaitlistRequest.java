@@ -0,0 +1,32 @@
+package com.docmate.appointment.dto;
+
+import com.docmate.common.enums.ConsultationMode;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JoinWaitlistRequest {
+
+    @NotNull(message = "Doctor ID is required")
+    private UUID doctorId;
+
+    @NotNull(message = "Earliest time is required")
+    private LocalDateTime earliest;
+
+    @NotNull(message = "Latest time is required")
+    @Future(message = "Latest time must be in the future")
+    private LocalDateTime latest;
+
+    @NotNull(message = "Consultation mode is required")
+    private ConsultationMode consultationMode;
+}
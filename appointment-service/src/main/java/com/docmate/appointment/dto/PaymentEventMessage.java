@@ -0,0 +1,27 @@
+package com.docmate.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A payment-service outbox event as its HTTP sink posts it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentEventMessage {
+
+    private Long id;
+    private String source;
+    private String aggregateType;
+    private UUID aggregateId;
+    private String eventType;
+    private PaymentSummaryDto payload;
+    private LocalDateTime createdAt;
+}
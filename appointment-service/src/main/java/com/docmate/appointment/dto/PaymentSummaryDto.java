@@ -0,0 +1,23 @@
+package com.docmate.appointment.dto;
+
+import com.docmate.common.enums.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * The parts of a payment-service payment needed to convert the slot hold it pays for.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentSummaryDto {
+
+    private UUID id;
+    private UUID appointmentId; // The appointment or slot hold paid for
+    private PaymentStatus status;
+}
@@ -0,0 +1,32 @@
+package com.docmate.appointment.dto;
+
+import com.docmate.common.enums.ConsultationMode;
+import com.docmate.common.enums.WaitlistStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitlistEntryDto {
+
+    private UUID id;
+    private UUID patientId;
+    private UUID doctorId;
+    private LocalDateTime earliest;
+    private LocalDateTime latest;
+    private ConsultationMode consultationMode;
+    private Integer priority;
+    private WaitlistStatus status;
+    private UUID offeredAppointmentId;
+    private LocalDateTime offeredAt;
+    private LocalDateTime createdDate;
+}
@@ -37,10 +37,19 @@ public class Appointment extends BaseEntity {
     @Column(name = "consultation_mode", nullable = false)
     private ConsultationMode consultationMode;
 
+    // Set only while status is HELD; the slot is released once this passes
+    @Column(name = "held_until")
+    private LocalDateTime heldUntil;
+
     @Column(name = "duration_minutes")
     @Builder.Default
     private Integer durationMinutes = 30;
 
+    // One of several seats in a shared slot; such bookings may overlap each other
+    @Column(name = "shared_slot", nullable = false)
+    @Builder.Default
+    private Boolean sharedSlot = false;
+
     @Column(name = "consultation_fee", precision = 10, scale = 2)
     private BigDecimal consultationFee;
 
@@ -89,4 +98,8 @@ public class Appointment extends BaseEntity {
 
     @Column(name = "meeting_id")
     private String meetingId;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
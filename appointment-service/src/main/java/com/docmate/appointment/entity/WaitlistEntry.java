@@ -0,0 +1,53 @@
+package com.docmate.appointment.entity;
+
+import com.docmate.common.entity.BaseEntity;
+import com.docmate.common.enums.ConsultationMode;
+import com.docmate.common.enums.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "waitlist_entries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry extends BaseEntity {
+
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Column(name = "doctor_id", nullable = false)
+    private UUID doctorId;
+
+    // The patient takes any slot starting within [earliest, latest]
+    @Column(name = "earliest", nullable = false)
+    private LocalDateTime earliest;
+
+    @Column(name = "latest", nullable = false)
+    private LocalDateTime latest;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "consultation_mode", nullable = false)
+    private ConsultationMode consultationMode;
+
+    // Higher priorities are offered first; equal priorities in joining order
+    @Column(name = "priority", nullable = false)
+    @Builder.Default
+    private Integer priority = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    @Column(name = "offered_appointment_id")
+    private UUID offeredAppointmentId;
+
+    @Column(name = "offered_at")
+    private LocalDateTime offeredAt;
+}
@@ -0,0 +1,19 @@
+package com.docmate.appointment.event;
+
+import com.docmate.appointment.dto.AppointmentDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Outbox payload of every appointment event, carrying the appointment as it stands after the
+ * change. Appointments changed by one batch operation share its {@code batchId}, so that
+ * notifications and refunds for a whole batch can still be handled together.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AppointmentChangedEvent(AppointmentEventType type,
+                                      AppointmentDto appointment,
+                                      UUID batchId,
+                                      UUID performedBy,
+                                      String reason) {
+}
@@ -0,0 +1,22 @@
+package com.docmate.appointment.event;
+
+import com.docmate.appointment.dto.BatchOperation;
+
+public enum AppointmentEventType {
+    BOOKED,
+    HELD,
+    HOLD_CONFIRMED,
+    HOLD_RELEASED,
+    CONFIRMED,
+    CANCELLED,
+    COMPLETED,
+    RESCHEDULED;
+
+    public static AppointmentEventType of(BatchOperation operation) {
+        return switch (operation) {
+            case CANCEL -> CANCELLED;
+            case CONFIRM -> CONFIRMED;
+            case RESCHEDULE -> RESCHEDULED;
+        };
+    }
+}
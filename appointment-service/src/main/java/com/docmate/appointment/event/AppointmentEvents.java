@@ -0,0 +1,36 @@
+package com.docmate.appointment.event;
+
+import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.common.outbox.OutboxPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Writes appointment and waitlist events to the outbox within the current transaction. Events are
+ * keyed by appointment, and offers by waitlist entry, so each reaches consumers in order.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentEvents {
+
+    public static final String APPOINTMENT = "Appointment";
+    public static final String WAITLIST_ENTRY = "WaitlistEntry";
+
+    private final OutboxPublisher outboxPublisher;
+
+    public void changed(AppointmentEventType type, AppointmentDto appointment) {
+        changed(type, appointment, null, null, null);
+    }
+
+    public void changed(AppointmentEventType type, AppointmentDto appointment, UUID batchId, UUID performedBy,
+                        String reason) {
+        outboxPublisher.publish(APPOINTMENT, appointment.getId(), type.name(),
+                new AppointmentChangedEvent(type, appointment, batchId, performedBy, reason));
+    }
+
+    public void offered(WaitlistOfferEvent offer) {
+        outboxPublisher.publish(WAITLIST_ENTRY, offer.waitlistEntryId(), "OFFERED", offer);
+    }
+}
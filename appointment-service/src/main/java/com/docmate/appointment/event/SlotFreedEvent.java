@@ -0,0 +1,16 @@
+package com.docmate.appointment.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a booked or held slot becomes free again: on cancellation, hold release or
+ * expiry, and when an appointment is moved away from it.
+ */
+public record SlotFreedEvent(UUID doctorId, LocalDateTime start, int durationMinutes) {
+
+    // Rows written before duration_minutes existed have no duration and count as 30 minutes
+    public static SlotFreedEvent of(UUID doctorId, LocalDateTime start, Integer durationMinutes) {
+        return new SlotFreedEvent(doctorId, start, durationMinutes != null ? durationMinutes : 30);
+    }
+}
@@ -0,0 +1,16 @@
+package com.docmate.appointment.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Written to the outbox when a freed slot has been held for a waitlisted patient, who must confirm
+ * the hold before {@code heldUntil}. The trigger for telling the patient about the offer.
+ */
+public record WaitlistOfferEvent(UUID waitlistEntryId,
+                                 UUID patientId,
+                                 UUID doctorId,
+                                 UUID holdId,
+                                 LocalDateTime appointmentDateTime,
+                                 LocalDateTime heldUntil) {
+}
@@ -13,5 +13,7 @@ public interface AppointmentMapper {
     @Mapping(target = "patient", ignore = true) // Will be populated by service layer
     AppointmentDto toDto(Appointment appointment);
 
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "sharedSlot", ignore = true)
     Appointment toEntity(AppointmentDto appointmentDto);
 }
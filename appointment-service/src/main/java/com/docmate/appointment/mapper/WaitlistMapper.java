@@ -0,0 +1,12 @@
+package com.docmate.appointment.mapper;
+
+import com.docmate.appointment.dto.WaitlistEntryDto;
+import com.docmate.appointment.entity.WaitlistEntry;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface WaitlistMapper {
+
+    WaitlistEntryDto toDto(WaitlistEntry entry);
+}
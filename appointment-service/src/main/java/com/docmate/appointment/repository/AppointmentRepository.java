@@ -1,31 +1,69 @@
 package com.docmate.appointment.repository;
 
+import com.docmate.appointment.dto.AppointmentStateView;
+import com.docmate.appointment.dto.BookedIntervalDto;
+import com.docmate.appointment.dto.ExpiredHoldView;
 import com.docmate.appointment.entity.Appointment;
 import com.docmate.common.enums.AppointmentStatus;
 import com.docmate.common.enums.ConsultationMode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
 
+    int EXPORT_FETCH_SIZE = 1000;
+
     // Find appointments by patient with ordering
     Page<Appointment> findByPatientIdOrderByAppointmentDateTimeDesc(UUID patientId, Pageable pageable);
 
     // Find appointments by doctor with ordering
     Page<Appointment> findByDoctorIdOrderByAppointmentDateTimeDesc(UUID doctorId, Pageable pageable);
 
+    // History reads span the live table and the archive through the appointment_history view
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM appointment_history WHERE patient_id = :patientId ORDER BY appointment_date_time DESC",
+           countQuery = "SELECT count(*) FROM appointment_history WHERE patient_id = :patientId",
+           nativeQuery = true)
+    Page<Appointment> findPatientHistory(@Param("patientId") UUID patientId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM appointment_history WHERE doctor_id = :doctorId ORDER BY appointment_date_time DESC",
+           countQuery = "SELECT count(*) FROM appointment_history WHERE doctor_id = :doctorId",
+           nativeQuery = true)
+    Page<Appointment> findDoctorHistory(@Param("doctorId") UUID doctorId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM appointments_archive WHERE id = :id", nativeQuery = true)
+    Optional<Appointment> findArchivedById(@Param("id") UUID id);
+
+    // Moves a batch of finished appointments that ended before the cutoff into the archive in one
+    // statement. Served by idx_appointments_archivable; SKIP LOCKED leaves rows being edited for later.
+    @Query(value = "WITH moved AS (DELETE FROM appointments WHERE appointment_date_time < :cutoff AND id IN (" +
+                   "SELECT id FROM appointments WHERE status IN ('COMPLETED', 'CANCELLED') " +
+                   "AND appointment_date_time < :cutoff " +
+                   "ORDER BY appointment_date_time LIMIT :batchSize FOR UPDATE SKIP LOCKED) RETURNING *), " +
+                   "archived AS (INSERT INTO appointments_archive SELECT * FROM moved RETURNING 1) " +
+                   "SELECT count(*) FROM archived",
+           nativeQuery = true)
+    long archiveFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
     // Find appointments by status with ordering
-    List<Appointment> findByStatusOrderByAppointmentDateTime(AppointmentStatus status);
     Page<Appointment> findByStatusOrderByAppointmentDateTime(AppointmentStatus status, Pageable pageable);
 
     // Find upcoming appointments for doctor
@@ -42,23 +80,202 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     List<Appointment> findByPatientIdAndAppointmentDateTimeBetweenOrderByAppointmentDateTime(
         UUID patientId, LocalDateTime startTime, LocalDateTime endTime);
 
-    // Find conflicting appointments for scheduling validation
-    @Query("SELECT a FROM Appointment a WHERE a.doctorId = :doctorId " +
-           "AND a.status NOT IN ('CANCELLED', 'COMPLETED') " +
-           "AND ((a.appointmentDateTime <= :startTime AND :startTime < DATE_ADD(a.appointmentDateTime, INTERVAL a.durationMinutes MINUTE)) " +
-           "OR (:startTime <= a.appointmentDateTime AND a.appointmentDateTime < :endTime))")
+    // Find conflicting appointments for scheduling validation; served by the per-partition slot
+    // exclusion GiST indexes. The start bound lets the planner skip months after the range.
+    @Query(value = "SELECT * FROM appointments a WHERE a.doctor_id = :doctorId " +
+                   "AND a.status NOT IN ('CANCELLED', 'COMPLETED') " +
+                   "AND a.appointment_date_time < :endTime " +
+                   "AND a.slot && tsrange(:startTime, :endTime, '[)')",
+           nativeQuery = true)
     List<Appointment> findConflictingAppointments(@Param("doctorId") UUID doctorId,
                                                  @Param("startTime") LocalDateTime startTime,
                                                  @Param("endTime") LocalDateTime endTime);
 
+    // Active appointments as plain intervals, used to rebuild the in-memory booking index; shared
+    // slot bookings are counted by their slot's seats instead
+    @Query("SELECT new com.docmate.appointment.dto.BookedIntervalDto(a.id, a.doctorId, a.appointmentDateTime, a.durationMinutes) " +
+           "FROM Appointment a WHERE a.appointmentDateTime >= :from AND a.status NOT IN :inactiveStatuses " +
+           "AND a.sharedSlot = false")
+    List<BookedIntervalDto> findActiveIntervalsFrom(@Param("from") LocalDateTime from,
+                                                    @Param("inactiveStatuses") Collection<AppointmentStatus> inactiveStatuses);
+
+    @Query("SELECT new com.docmate.appointment.dto.BookedIntervalDto(a.id, a.doctorId, a.appointmentDateTime, a.durationMinutes) " +
+           "FROM Appointment a WHERE a.doctorId = :doctorId AND a.appointmentDateTime >= :from " +
+           "AND a.status NOT IN :inactiveStatuses AND a.sharedSlot = false")
+    List<BookedIntervalDto> findActiveIntervalsByDoctorFrom(@Param("doctorId") UUID doctorId,
+                                                            @Param("from") LocalDateTime from,
+                                                            @Param("inactiveStatuses") Collection<AppointmentStatus> inactiveStatuses);
+
+    // Converts a live hold owned by the patient into a booked appointment
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Appointment a SET a.status = :booked, a.heldUntil = NULL, a.paymentId = :paymentId, " +
+           "a.version = a.version + 1, a.updatedDate = :now " +
+           "WHERE a.id = :id AND a.patientId = :patientId AND a.status = :held AND a.heldUntil >= :now")
+    int convertHold(@Param("id") UUID id,
+                    @Param("patientId") UUID patientId,
+                    @Param("paymentId") UUID paymentId,
+                    @Param("held") AppointmentStatus held,
+                    @Param("booked") AppointmentStatus booked,
+                    @Param("now") LocalDateTime now);
+
+    // Status transitions: one conditional UPDATE each, returning the new row, or nothing if the
+    // appointment is missing or no longer in one of the source statuses
+    @Query(value = "UPDATE appointments SET status = :target, version = version + 1, updated_at = :now " +
+                   "WHERE id = :id AND status IN (:sources) RETURNING *",
+           nativeQuery = true)
+    Optional<Appointment> transitionStatus(@Param("id") UUID id,
+                                           @Param("sources") Collection<String> sources,
+                                           @Param("target") String target,
+                                           @Param("now") LocalDateTime now);
+
+    @Query(value = "UPDATE appointments SET status = :target, version = version + 1, updated_at = :now, " +
+                   "cancelled_reason = :reason, cancelled_by = :cancelledBy, cancelled_at = :now " +
+                   "WHERE id = :id AND status IN (:sources) RETURNING *",
+           nativeQuery = true)
+    Optional<Appointment> transitionToCancelled(@Param("id") UUID id,
+                                                @Param("sources") Collection<String> sources,
+                                                @Param("target") String target,
+                                                @Param("reason") String reason,
+                                                @Param("cancelledBy") UUID cancelledBy,
+                                                @Param("now") LocalDateTime now);
+
+    @Query(value = "UPDATE appointments SET status = :target, version = version + 1, updated_at = :now, " +
+                   "notes = COALESCE(CAST(:notes AS text), notes), completed_at = :now " +
+                   "WHERE id = :id AND status IN (:sources) RETURNING *",
+           nativeQuery = true)
+    Optional<Appointment> transitionToCompleted(@Param("id") UUID id,
+                                                @Param("sources") Collection<String> sources,
+                                                @Param("target") String target,
+                                                @Param("notes") String notes,
+                                                @Param("now") LocalDateTime now);
+
+    // Batch operations: one statement per batch, returning the rows it changed
+    @Query(value = "UPDATE appointments SET status = :target, version = version + 1, updated_at = :now, " +
+                   "cancelled_reason = :reason, cancelled_by = :cancelledBy, cancelled_at = :now " +
+                   "WHERE doctor_id = :doctorId AND appointment_date_time >= :from AND appointment_date_time < :to " +
+                   "AND status IN (:sources) RETURNING *",
+           nativeQuery = true)
+    List<Appointment> cancelByDoctorBetween(@Param("doctorId") UUID doctorId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            @Param("sources") Collection<String> sources,
+                                            @Param("target") String target,
+                                            @Param("reason") String reason,
+                                            @Param("cancelledBy") UUID cancelledBy,
+                                            @Param("now") LocalDateTime now);
+
+    @Query(value = "UPDATE appointments SET status = :target, version = version + 1, updated_at = :now " +
+                   "WHERE id IN (:ids) AND status IN (:sources) RETURNING *",
+           nativeQuery = true)
+    List<Appointment> transitionStatusAll(@Param("ids") Collection<UUID> ids,
+                                          @Param("sources") Collection<String> sources,
+                                          @Param("target") String target,
+                                          @Param("now") LocalDateTime now);
+
+    // Members of a batch that may move by the offset: in a source status, not a shared slot booking,
+    // whose seats belong to the slot, not moved into the past, and not moved onto a slot running into
+    // the next month, which that month's partition would not check for overlaps
+    @Query(value = "SELECT a.id FROM appointments a " +
+                   "WHERE a.id IN (:ids) AND a.status IN (:sources) AND NOT a.shared_slot " +
+                   "AND a.appointment_date_time + make_interval(mins => :offsetMinutes) > :now " +
+                   "AND a.appointment_date_time + make_interval(mins => :offsetMinutes + COALESCE(a.duration_minutes, 30)) " +
+                   "<= date_trunc('month', a.appointment_date_time + make_interval(mins => :offsetMinutes)) + INTERVAL '1 month'",
+           nativeQuery = true)
+    List<UUID> findShiftable(@Param("ids") Collection<UUID> ids,
+                             @Param("sources") Collection<String> sources,
+                             @Param("offsetMinutes") int offsetMinutes,
+                             @Param("now") LocalDateTime now);
+
+    // Movers whose new slot overlaps an active appointment that is not moving, including other
+    // members of the batch that stay where they are
+    @Query(value = "SELECT a.id FROM appointments a WHERE a.id IN (:movers) " +
+                   "AND EXISTS (SELECT 1 FROM appointments o WHERE o.doctor_id = a.doctor_id " +
+                   "AND o.id NOT IN (:movers) AND o.status NOT IN ('CANCELLED', 'COMPLETED') " +
+                   "AND o.slot && tsrange(a.appointment_date_time + make_interval(mins => :offsetMinutes), " +
+                   "a.appointment_date_time + make_interval(mins => :offsetMinutes + COALESCE(a.duration_minutes, 30)), '[)'))",
+           nativeQuery = true)
+    List<UUID> findShiftBlocked(@Param("movers") Collection<UUID> movers,
+                                @Param("offsetMinutes") int offsetMinutes);
+
+    // Moves the given members by the offset. They move as a block, so only appointments staying in
+    // place can conflict; the checks of findShiftable and findShiftBlocked are repeated as a guard.
+    @Query(value = "UPDATE appointments a SET " +
+                   "appointment_date_time = a.appointment_date_time + make_interval(mins => :offsetMinutes), " +
+                   "version = a.version + 1, updated_at = :now " +
+                   "WHERE a.id IN (:movers) AND a.status IN (:sources) AND NOT a.shared_slot " +
+                   "AND a.appointment_date_time + make_interval(mins => :offsetMinutes) > :now " +
+                   "AND a.appointment_date_time + make_interval(mins => :offsetMinutes + COALESCE(a.duration_minutes, 30)) " +
+                   "<= date_trunc('month', a.appointment_date_time + make_interval(mins => :offsetMinutes)) + INTERVAL '1 month' " +
+                   "AND NOT EXISTS (SELECT 1 FROM appointments o WHERE o.doctor_id = a.doctor_id " +
+                   "AND o.id NOT IN (:movers) AND o.status NOT IN ('CANCELLED', 'COMPLETED') " +
+                   "AND o.slot && tsrange(a.appointment_date_time + make_interval(mins => :offsetMinutes), " +
+                   "a.appointment_date_time + make_interval(mins => :offsetMinutes + COALESCE(a.duration_minutes, 30)), '[)')) " +
+                   "RETURNING a.*",
+           nativeQuery = true)
+    List<Appointment> shiftAll(@Param("movers") Collection<UUID> movers,
+                               @Param("sources") Collection<String> sources,
+                               @Param("offsetMinutes") int offsetMinutes,
+                               @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.id AS id, a.status AS status, a.appointmentDateTime AS appointmentDateTime, " +
+           "a.durationMinutes AS durationMinutes, a.sharedSlot AS sharedSlot FROM Appointment a WHERE a.id IN :ids")
+    List<AppointmentStateView> findStatesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM Appointment a WHERE a.id = :id AND a.patientId = :patientId AND a.status = :held")
+    int deleteHold(@Param("id") UUID id,
+                   @Param("patientId") UUID patientId,
+                   @Param("held") AppointmentStatus held);
+
+    // Served by idx_appointments_held_until; SKIP LOCKED lets concurrent sweepers share the work
+    @Query(value = "DELETE FROM appointments WHERE id IN (" +
+                   "SELECT id FROM appointments WHERE status = 'HELD' AND held_until < :now " +
+                   "ORDER BY held_until LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING id AS id, doctor_id AS doctorId, appointment_date_time AS appointmentDateTime, " +
+                   "duration_minutes AS durationMinutes, shared_slot AS sharedSlot",
+           nativeQuery = true)
+    List<ExpiredHoldView> deleteExpiredHolds(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    // Takes a seat of a shared slot, creating its counter on first use; no row comes back once it is full
+    @Query(value = "INSERT INTO slot_capacity (doctor_id, slot_start, capacity, remaining, updated_at) " +
+                   "VALUES (:doctorId, :slotStart, :capacity, :capacity - 1, :now) " +
+                   "ON CONFLICT (doctor_id, slot_start) DO UPDATE " +
+                   "SET remaining = slot_capacity.remaining - 1, updated_at = :now WHERE slot_capacity.remaining > 0 " +
+                   "RETURNING remaining",
+           nativeQuery = true)
+    Optional<Integer> takeSeat(@Param("doctorId") UUID doctorId,
+                               @Param("slotStart") LocalDateTime slotStart,
+                               @Param("capacity") int capacity,
+                               @Param("now") LocalDateTime now);
+
+    // Never raises a slot above its capacity, so a repeated release cannot create seats
+    @Query(value = "UPDATE slot_capacity SET remaining = remaining + 1, updated_at = :now " +
+                   "WHERE doctor_id = :doctorId AND slot_start = :slotStart AND remaining < capacity " +
+                   "RETURNING remaining",
+           nativeQuery = true)
+    Optional<Integer> releaseSeat(@Param("doctorId") UUID doctorId,
+                                  @Param("slotStart") LocalDateTime slotStart,
+                                  @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT remaining FROM slot_capacity WHERE doctor_id = :doctorId AND slot_start = :slotStart",
+           nativeQuery = true)
+    Optional<Integer> findRemainingSeats(@Param("doctorId") UUID doctorId, @Param("slotStart") LocalDateTime slotStart);
+
+    @Modifying
+    @Query(value = "DELETE FROM slot_capacity WHERE slot_start < :cutoff", nativeQuery = true)
+    int deleteSeatsBefore(@Param("cutoff") LocalDateTime cutoff);
+
     // Find appointments by consultation mode
     Page<Appointment> findByConsultationModeOrderByAppointmentDateTime(ConsultationMode consultationMode, Pageable pageable);
 
-    // Find appointments for today for a doctor
+    // Find a doctor's appointments of one day; a range on the column itself, unlike DATE(...),
+    // lets the planner prune partitions
     @Query("SELECT a FROM Appointment a WHERE a.doctorId = :doctorId " +
-           "AND DATE(a.appointmentDateTime) = CURRENT_DATE " +
+           "AND a.appointmentDateTime >= :dayStart AND a.appointmentDateTime < :dayEnd " +
            "ORDER BY a.appointmentDateTime")
-    List<Appointment> findTodaysAppointmentsByDoctor(@Param("doctorId") UUID doctorId);
+    List<Appointment> findTodaysAppointmentsByDoctor(@Param("doctorId") UUID doctorId,
+                                                     @Param("dayStart") LocalDateTime dayStart,
+                                                     @Param("dayEnd") LocalDateTime dayEnd);
 
     // Count appointments by status
     long countByStatus(AppointmentStatus status);
@@ -69,9 +286,56 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     // Count appointments by patient
     long countByPatientId(UUID patientId);
 
-    // Find appointments by multiple statuses
-    @Query("SELECT a FROM Appointment a WHERE a.status IN :statuses ORDER BY a.appointmentDateTime")
-    List<Appointment> findByStatusIn(@Param("statuses") List<AppointmentStatus> statuses);
+    // Streams appointments by status and range through a server-side cursor for exports; the
+    // stream must be consumed and closed inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Appointment a WHERE a.status IN :statuses " +
+           "AND a.appointmentDateTime >= :from AND a.appointmentDateTime < :to ORDER BY a.appointmentDateTime")
+    Stream<Appointment> streamByStatusInAndRange(@Param("statuses") Collection<AppointmentStatus> statuses,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+
+    // Calendar feed rows of a doctor or a patient, streamed straight into the feed body
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM Appointment a WHERE a.doctorId = :doctorId AND a.status IN :statuses " +
+           "AND a.appointmentDateTime >= :from AND a.appointmentDateTime < :to ORDER BY a.appointmentDateTime")
+    Stream<Appointment> streamDoctorFeed(@Param("doctorId") UUID doctorId,
+                                         @Param("statuses") Collection<AppointmentStatus> statuses,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM Appointment a WHERE a.patientId = :patientId AND a.status IN :statuses " +
+           "AND a.appointmentDateTime >= :from AND a.appointmentDateTime < :to ORDER BY a.appointmentDateTime")
+    Stream<Appointment> streamPatientFeed(@Param("patientId") UUID patientId,
+                                          @Param("statuses") Collection<AppointmentStatus> statuses,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    // Versions of a doctor's or a patient's feed: every committed change to a feed row moves the row
+    // count, the sum of row versions or the latest update, so an unchanged result means an unchanged feed
+    @Query(value = "SELECT count(*) || '.' || COALESCE(sum(version), 0) || '.' || " +
+                   "COALESCE(floor(extract(epoch FROM max(updated_at)) * 1000000)::bigint, 0) " +
+                   "FROM appointments WHERE doctor_id = :doctorId AND status IN (:statuses) " +
+                   "AND appointment_date_time >= :from AND appointment_date_time < :to",
+           nativeQuery = true)
+    String findDoctorFeedVersion(@Param("doctorId") UUID doctorId,
+                                 @Param("statuses") Collection<String> statuses,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+
+    @Query(value = "SELECT count(*) || '.' || COALESCE(sum(version), 0) || '.' || " +
+                   "COALESCE(floor(extract(epoch FROM max(updated_at)) * 1000000)::bigint, 0) " +
+                   "FROM appointments WHERE patient_id = :patientId AND status IN (:statuses) " +
+                   "AND appointment_date_time >= :from AND appointment_date_time < :to",
+           nativeQuery = true)
+    String findPatientFeedVersion(@Param("patientId") UUID patientId,
+                                  @Param("statuses") Collection<String> statuses,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
 
     // Find appointments that need follow-up
     @Query("SELECT a FROM Appointment a WHERE a.followUpRequired = true AND a.followUpDate IS NOT NULL " +
@@ -0,0 +1,42 @@
+package com.docmate.appointment.repository;
+
+import com.docmate.appointment.dto.ExpiredWaitlistEntryView;
+import com.docmate.appointment.entity.WaitlistEntry;
+import com.docmate.common.enums.WaitlistStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
+
+    Page<WaitlistEntry> findByPatientIdOrderByCreatedDateDesc(UUID patientId, Pageable pageable);
+
+    boolean existsByPatientIdAndDoctorIdAndStatus(UUID patientId, UUID doctorId, WaitlistStatus status);
+
+    // Served by idx_waitlist_entries_waiting; used to rebuild the in-memory waitlists
+    List<WaitlistEntry> findByStatusAndLatestAfter(WaitlistStatus status, LocalDateTime after);
+
+    // Claims a waiting entry for an offer; zero means another offer or a cancellation got there first
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = :offered, w.offeredAppointmentId = :appointmentId, " +
+           "w.offeredAt = :now, w.updatedDate = :now WHERE w.id = :id AND w.status = :waiting")
+    int markOffered(@Param("id") UUID id,
+                    @Param("appointmentId") UUID appointmentId,
+                    @Param("waiting") WaitlistStatus waiting,
+                    @Param("offered") WaitlistStatus offered,
+                    @Param("now") LocalDateTime now);
+
+    @Query(value = "UPDATE waitlist_entries SET status = 'EXPIRED', updated_at = :now " +
+                   "WHERE status = 'WAITING' AND latest < :now RETURNING id AS id, doctor_id AS doctorId",
+           nativeQuery = true)
+    List<ExpiredWaitlistEntryView> expireEndedBefore(@Param("now") LocalDateTime now);
+}
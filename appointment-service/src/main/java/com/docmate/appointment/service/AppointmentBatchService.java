@@ -0,0 +1,222 @@
+package com.docmate.appointment.service;
+
+import com.docmate.appointment.booking.BookingConflicts;
+import com.docmate.appointment.booking.BookingEngine;
+import com.docmate.appointment.booking.SlotSeats;
+import com.docmate.appointment.calendar.DoctorCalendarCache;
+import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.appointment.dto.AppointmentStateView;
+import com.docmate.appointment.dto.BatchCancelRequest;
+import com.docmate.appointment.dto.BatchConfirmRequest;
+import com.docmate.appointment.dto.BatchItemResult;
+import com.docmate.appointment.dto.BatchOperation;
+import com.docmate.appointment.dto.BatchOperationResponse;
+import com.docmate.appointment.dto.BatchRescheduleRequest;
+import com.docmate.appointment.entity.Appointment;
+import com.docmate.appointment.event.AppointmentEventType;
+import com.docmate.appointment.event.AppointmentEvents;
+import com.docmate.appointment.event.SlotFreedEvent;
+import com.docmate.appointment.mapper.AppointmentMapper;
+import com.docmate.appointment.repository.AppointmentRepository;
+import com.docmate.common.enums.AppointmentStatus;
+import com.docmate.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies one operation to many appointments with a single set-based statement, reports the
+ * outcome per appointment and writes an outbox event per changed appointment, tagged with the batch.
+ * Appointments the statement skipped are classified with one extra read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AppointmentBatchService {
+
+    private static final Set<AppointmentStatus> RESCHEDULABLE_STATUSES =
+            EnumSet.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED);
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final BookingEngine bookingEngine;
+    private final SlotSeats slotSeats;
+    private final DoctorCalendarCache calendarCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppointmentEvents appointmentEvents;
+
+    public BatchOperationResponse cancelByDoctor(BatchCancelRequest request, UUID cancelledBy) {
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new BusinessException("INVALID_RANGE", "Range start must be before range end", 400);
+        }
+        AppointmentTransition transition = AppointmentTransition.CANCEL;
+        List<Appointment> cancelled = appointmentRepository.cancelByDoctorBetween(
+                request.getDoctorId(), request.getFrom(), request.getTo(),
+                transition.getSourceNames(), transition.getTarget().name(),
+                request.getReason(), cancelledBy, LocalDateTime.now());
+        cancelled.forEach(appointment -> {
+            if (Boolean.TRUE.equals(appointment.getSharedSlot())) {
+                slotSeats.release(appointment.getDoctorId(), appointment.getAppointmentDateTime());
+            } else {
+                bookingEngine.release(appointment.getDoctorId(), appointment.getId());
+            }
+            eventPublisher.publishEvent(SlotFreedEvent.of(appointment.getDoctorId(),
+                    appointment.getAppointmentDateTime(), appointment.getDurationMinutes()));
+        });
+
+        List<UUID> ids = cancelled.stream().map(Appointment::getId).toList();
+        return complete(BatchOperation.CANCEL, ids, cancelled, cancelledBy, request.getReason(),
+                state -> null);
+    }
+
+    public BatchOperationResponse confirm(BatchConfirmRequest request, UUID confirmedBy) {
+        AppointmentTransition transition = AppointmentTransition.CONFIRM;
+        List<UUID> ids = distinct(request.getAppointmentIds());
+        List<Appointment> confirmed = appointmentRepository.transitionStatusAll(
+                ids, transition.getSourceNames(), transition.getTarget().name(), LocalDateTime.now());
+
+        return complete(BatchOperation.CONFIRM, ids, confirmed, confirmedBy, null,
+                state -> failure(state.getId(), "INVALID_STATUS", transition.getInvalidStatusMessage()));
+    }
+
+    public BatchOperationResponse reschedule(BatchRescheduleRequest request, UUID rescheduledBy) {
+        int offsetMinutes = request.getOffsetMinutes();
+        if (offsetMinutes == 0) {
+            throw new BusinessException("INVALID_OFFSET", "Offset must not be zero", 400);
+        }
+        List<UUID> ids = distinct(request.getAppointmentIds());
+        LocalDateTime now = LocalDateTime.now();
+        List<String> sources = RESCHEDULABLE_STATUSES.stream().map(Enum::name).toList();
+
+        // A member that cannot move stays in place and may block others from moving onto it, so
+        // blocked members are dropped until the rest can all move
+        Set<UUID> movers = new HashSet<>(appointmentRepository.findShiftable(ids, sources, offsetMinutes, now));
+        while (!movers.isEmpty()) {
+            List<UUID> blocked = appointmentRepository.findShiftBlocked(movers, offsetMinutes);
+            if (blocked.isEmpty()) {
+                break;
+            }
+            blocked.forEach(movers::remove);
+        }
+
+        List<Appointment> moved;
+        try {
+            moved = movers.isEmpty() ? List.of() : appointmentRepository.shiftAll(movers, sources, offsetMinutes, now);
+        } catch (DataIntegrityViolationException e) {
+            // Only a booking made concurrently can still land on a moved member's new slot
+            if (BookingConflicts.isSlotConflict(e)) {
+                throw new BusinessException("APPOINTMENT_CONFLICT",
+                        "Rescheduled appointments would overlap appointments booked meanwhile", 409);
+            }
+            throw e;
+        }
+        moved.forEach(appointment -> {
+            bookingEngine.move(appointment.getDoctorId(), appointment.getId(),
+                    appointment.getAppointmentDateTime(), appointment.getDurationMinutes());
+            eventPublisher.publishEvent(SlotFreedEvent.of(appointment.getDoctorId(),
+                    appointment.getAppointmentDateTime().minusMinutes(offsetMinutes), appointment.getDurationMinutes()));
+        });
+
+        return complete(BatchOperation.RESCHEDULE, ids, moved, rescheduledBy, null, state -> {
+            if (!RESCHEDULABLE_STATUSES.contains(state.getStatus())) {
+                return failure(state.getId(), "INVALID_STATUS", "Only scheduled or confirmed appointments can be rescheduled");
+            }
+            if (Boolean.TRUE.equals(state.getSharedSlot())) {
+                return failure(state.getId(), "INVALID_STATUS", "Shared slot bookings cannot be rescheduled");
+            }
+            if (!state.getAppointmentDateTime().plusMinutes(offsetMinutes).isAfter(now)) {
+                return failure(state.getId(), "INVALID_TIME", "Rescheduled time must be in the future");
+            }
+            if (BookingConflicts.crossesMonth(state.getAppointmentDateTime().plusMinutes(offsetMinutes),
+                    state.getDurationMinutes() != null ? state.getDurationMinutes() : 30)) {
+                return failure(state.getId(), "INVALID_TIME", "Rescheduled appointment cannot run past the end of a month");
+            }
+            return failure(state.getId(), "APPOINTMENT_CONFLICT", "Doctor already has an appointment at the new time");
+        });
+    }
+
+    private BatchOperationResponse complete(BatchOperation operation, List<UUID> requestedIds, List<Appointment> changed,
+                                            UUID performedBy, String reason,
+                                            Function<AppointmentStateView, BatchItemResult> classifySkipped) {
+        changed.forEach(calendarCache::updated);
+        Map<UUID, AppointmentDto> changedById = changed.stream()
+                .map(appointmentMapper::toDto)
+                .collect(Collectors.toMap(AppointmentDto::getId, Function.identity()));
+
+        List<UUID> skippedIds = requestedIds.stream().filter(id -> !changedById.containsKey(id)).toList();
+        Map<UUID, AppointmentStateView> skipped = skippedIds.isEmpty()
+                ? Map.of()
+                : appointmentRepository.findStatesByIdIn(skippedIds).stream()
+                        .collect(Collectors.toMap(AppointmentStateView::getId, Function.identity()));
+
+        List<BatchItemResult> results = new ArrayList<>(requestedIds.size());
+        for (UUID id : requestedIds) {
+            AppointmentDto appointment = changedById.get(id);
+            if (appointment != null) {
+                results.add(success(appointment));
+            } else if (skipped.containsKey(id)) {
+                results.add(classifySkipped.apply(skipped.get(id)));
+            } else {
+                results.add(failure(id, "APPOINTMENT_NOT_FOUND", "Appointment not found with ID: " + id));
+            }
+        }
+
+        UUID batchId = UUID.randomUUID();
+        AppointmentEventType eventType = AppointmentEventType.of(operation);
+        changedById.values().forEach(appointment ->
+                appointmentEvents.changed(eventType, appointment, batchId, performedBy, reason));
+        log.info("Batch {} {}: {} of {} appointments changed by user {}",
+                batchId, operation, changedById.size(), requestedIds.size(), performedBy);
+
+        return BatchOperationResponse.builder()
+                .batchId(batchId)
+                .operation(operation)
+                .requested(requestedIds.size())
+                .succeeded(changedById.size())
+                .failed(requestedIds.size() - changedById.size())
+                .results(results)
+                .build();
+    }
+
+    private static List<UUID> distinct(List<UUID> ids) {
+        List<UUID> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) {
+            throw new BusinessException("INVALID_REQUEST", "Appointment IDs are required", 400);
+        }
+        return distinct;
+    }
+
+    private static BatchItemResult success(AppointmentDto appointment) {
+        return BatchItemResult.builder()
+                .appointmentId(appointment.getId())
+                .success(true)
+                .status(appointment.getStatus())
+                .appointmentDateTime(appointment.getAppointmentDateTime())
+                .build();
+    }
+
+    private static BatchItemResult failure(UUID appointmentId, String errorCode, String message) {
+        return BatchItemResult.builder()
+                .appointmentId(appointmentId)
+                .success(false)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.docmate.appointment.service;
+
+import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.appointment.dto.ExportFormat;
+import com.docmate.appointment.entity.Appointment;
+import com.docmate.appointment.mapper.AppointmentMapper;
+import com.docmate.appointment.repository.AppointmentRepository;
+import com.docmate.common.enums.AppointmentStatus;
+import com.docmate.common.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes appointments straight from a database cursor to an output stream. Rows are fetched
+ * {@link AppointmentRepository#EXPORT_FETCH_SIZE} at a time and each entity is detached once
+ * written, so memory stays flat however many rows are exported.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AppointmentExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "id,doctor_id,patient_id,appointment_date_time,duration_minutes,status," +
+            "consultation_mode,consultation_fee,payment_id,cancelled_reason,created_at";
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BusinessException("INVALID_RANGE", "Range start must be before range end", 400);
+        }
+    }
+
+    /**
+     * Returns the number of appointments written. Validate the range first with
+     * {@link #validateRange}, while an error can still be sent as a regular response.
+     */
+    @Transactional(readOnly = true)
+    public long export(Collection<AppointmentStatus> statuses, LocalDateTime from, LocalDateTime to,
+                       ExportFormat format, OutputStream out) throws IOException {
+        Collection<AppointmentStatus> matched = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(AppointmentStatus.class)
+                : statuses;
+
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+        // Not closed: the output stream belongs to the caller
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ObjectWriter jsonWriter = objectMapper.writerFor(AppointmentDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+        try (Stream<Appointment> appointments = appointmentRepository.streamByStatusInAndRange(matched, from, to)) {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            Iterator<Appointment> rows = appointments.iterator();
+            while (rows.hasNext()) {
+                Appointment appointment = rows.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, appointment);
+                } else {
+                    jsonWriter.writeValue(writer, appointmentMapper.toDto(appointment));
+                    writer.write('\n');
+                }
+                entityManager.detach(appointment);
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} appointments as {} in {} ms", count, format, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, Appointment appointment) throws IOException {
+        writer.write(csv(appointment.getId()));
+        writer.write(',');
+        writer.write(csv(appointment.getDoctorId()));
+        writer.write(',');
+        writer.write(csv(appointment.getPatientId()));
+        writer.write(',');
+        writer.write(csv(appointment.getAppointmentDateTime()));
+        writer.write(',');
+        writer.write(csv(appointment.getDurationMinutes()));
+        writer.write(',');
+        writer.write(csv(appointment.getStatus()));
+        writer.write(',');
+        writer.write(csv(appointment.getConsultationMode()));
+        writer.write(',');
+        writer.write(csv(appointment.getConsultationFee()));
+        writer.write(',');
+        writer.write(csv(appointment.getPaymentId()));
+        writer.write(',');
+        writer.write(csv(appointment.getCancelledReason()));
+        writer.write(',');
+        writer.write(csv(appointment.getCreatedDate()));
+        writer.write('\n');
+    }
+
+    // Quotes values containing separators, quotes or line breaks (RFC 4180)
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
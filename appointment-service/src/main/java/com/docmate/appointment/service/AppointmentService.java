@@ -1,14 +1,31 @@
 package com.docmate.appointment.service;
 
+import com.docmate.appointment.booking.BookingConflicts;
+import com.docmate.appointment.booking.BookingEngine;
+import com.docmate.appointment.booking.SharedSlot;
+import com.docmate.appointment.booking.SlotSeats;
+import com.docmate.appointment.calendar.DoctorCalendarCache;
+import com.docmate.appointment.client.PaymentServiceClient;
+import com.docmate.appointment.client.ServiceHttpClient;
 import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.appointment.dto.CalendarView;
+import com.docmate.appointment.dto.CalendarViewDto;
 import com.docmate.appointment.dto.CreateAppointmentRequest;
+import com.docmate.appointment.dto.PaymentSummaryDto;
 import com.docmate.appointment.entity.Appointment;
+import com.docmate.appointment.event.AppointmentEventType;
+import com.docmate.appointment.event.AppointmentEvents;
+import com.docmate.appointment.event.SlotFreedEvent;
 import com.docmate.appointment.mapper.AppointmentMapper;
 import com.docmate.appointment.repository.AppointmentRepository;
 import com.docmate.common.enums.AppointmentStatus;
+import com.docmate.common.enums.PaymentStatus;
 import com.docmate.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,7 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -29,61 +48,128 @@ public class AppointmentService {
     private final DoctorService doctorService;
     private final PatientService patientService;
     private final AvailabilityService availabilityService;
+    private final PaymentServiceClient paymentServiceClient;
+    private final BookingEngine bookingEngine;
+    private final SlotSeats slotSeats;
+    private final DoctorCalendarCache calendarCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppointmentEvents appointmentEvents;
+
+    @Value("${app.booking.holds.default-minutes:10}")
+    private int defaultHoldMinutes;
+
+    @Value("${app.booking.holds.max-minutes:30}")
+    private int maxHoldMinutes;
 
     public AppointmentDto createAppointment(CreateAppointmentRequest request) {
         log.info("Creating appointment for patient {} with doctor {}", request.getPatientId(), request.getDoctorId());
 
-        // Validate doctor and patient exist
-        doctorService.validateDoctorExists(request.getDoctorId());
-        patientService.validatePatientExists(request.getPatientId());
+        SharedSlot sharedSlot = validateBookingRequest(request);
+        Appointment savedAppointment = book(newAppointment(request, AppointmentStatus.SCHEDULED), sharedSlot);
+        log.info("Created appointment with ID: {}", savedAppointment.getId());
+
+        return published(AppointmentEventType.BOOKED, savedAppointment);
+    }
 
-        // Check doctor availability
-        if (!availabilityService.isDoctorAvailable(request.getDoctorId(), request.getAppointmentDateTime(), request.getDurationMinutes())) {
-            throw new BusinessException("DOCTOR_NOT_AVAILABLE", "Doctor is not available at the requested time", 400);
+    /**
+     * Places a short-lived hold on a slot while the patient completes checkout. The hold is an
+     * appointment in HELD status, so it blocks the slot for everyone else until it is confirmed,
+     * released or swept after {@code heldUntil}.
+     */
+    public AppointmentDto holdSlot(CreateAppointmentRequest request, Integer holdMinutes) {
+        int minutes = holdMinutes != null ? holdMinutes : defaultHoldMinutes;
+        if (minutes < 1 || minutes > maxHoldMinutes) {
+            throw new BusinessException("INVALID_HOLD_DURATION",
+                    "Hold duration must be between 1 and " + maxHoldMinutes + " minutes", 400);
         }
+        log.info("Holding slot for patient {} with doctor {} for {} minutes",
+                request.getPatientId(), request.getDoctorId(), minutes);
 
-        // Check for conflicting appointments
-        List<Appointment> conflicts = appointmentRepository.findConflictingAppointments(
-            request.getDoctorId(),
-            request.getAppointmentDateTime(),
-            request.getAppointmentDateTime().plusMinutes(request.getDurationMinutes())
-        );
+        SharedSlot sharedSlot = validateBookingRequest(request);
+        Appointment hold = newAppointment(request, AppointmentStatus.HELD);
+        hold.setHeldUntil(LocalDateTime.now().plusMinutes(minutes));
+        Appointment savedHold = book(hold, sharedSlot);
+        log.info("Created slot hold with ID: {} until {}", savedHold.getId(), savedHold.getHeldUntil());
 
-        if (!conflicts.isEmpty()) {
-            throw new BusinessException("APPOINTMENT_CONFLICT", "Doctor already has an appointment at this time", 409);
+        return published(AppointmentEventType.HELD, savedHold);
+    }
+
+    /**
+     * Converts a live hold into a scheduled appointment once its payment is confirmed, after
+     * checking the payment with payment-service. The slot stays reserved throughout, so
+     * conversion cannot conflict.
+     */
+    public AppointmentDto confirmHold(UUID holdId, UUID paymentId) {
+        PaymentSummaryDto payment = ServiceHttpClient.await(paymentServiceClient.getPayment(paymentId))
+            .orElseThrow(() -> new BusinessException("PAYMENT_NOT_FOUND", "Payment not found with ID: " + paymentId, 404));
+        return confirmPaidHold(holdId, payment);
+    }
+
+    /**
+     * Converts the hold a payment pays for, provided the payment has completed. A payment that
+     * already converted the hold returns the appointment, so a redelivered event is harmless.
+     */
+    public AppointmentDto confirmPaidHold(UUID holdId, PaymentSummaryDto payment) {
+        if (!holdId.equals(payment.getAppointmentId())) {
+            throw new BusinessException("PAYMENT_MISMATCH", "Payment is not for this slot hold", 409);
+        }
+        if (payment.getStatus() != PaymentStatus.COMPLETED) {
+            throw new BusinessException("PAYMENT_NOT_COMPLETED", "Payment has not completed", 409);
+        }
+        Appointment hold = appointmentRepository.findById(holdId)
+            .orElseThrow(() -> new BusinessException("HOLD_NOT_FOUND", "Slot hold not found with ID: " + holdId, 404));
+        if (payment.getId().equals(hold.getPaymentId()) && hold.getStatus() != AppointmentStatus.HELD) {
+            return appointmentMapper.toDto(hold);
         }
 
-        Appointment appointment = Appointment.builder()
-            .patientId(request.getPatientId())
-            .doctorId(request.getDoctorId())
-            .appointmentDateTime(request.getAppointmentDateTime())
-            .consultationMode(request.getConsultationMode())
-            .durationMinutes(request.getDurationMinutes())
-            .consultationFee(request.getConsultationFee())
-            .reasonForVisit(request.getReasonForVisit())
-            .symptoms(request.getSymptoms())
-            .status(AppointmentStatus.SCHEDULED)
-            .build();
+        int converted = appointmentRepository.convertHold(
+                holdId, hold.getPatientId(), payment.getId(), AppointmentStatus.HELD,
+                AppointmentTransition.CONVERT_HOLD.getTarget(), LocalDateTime.now());
+        if (converted == 0) {
+            if (hold.getStatus() == AppointmentStatus.HELD) {
+                throw new BusinessException("HOLD_EXPIRED", "Slot hold has expired", 409);
+            }
+            throw new BusinessException("INVALID_STATUS", "Appointment is not a slot hold", 400);
+        }
+        Appointment appointment = appointmentRepository.findById(holdId)
+            .orElseThrow(() -> new BusinessException("HOLD_NOT_FOUND", "Slot hold not found with ID: " + holdId, 404));
+        calendarCache.updated(appointment);
+        log.info("Converted slot hold {} into an appointment with payment {}", holdId, payment.getId());
 
-        Appointment savedAppointment = appointmentRepository.save(appointment);
-        log.info("Created appointment with ID: {}", savedAppointment.getId());
+        return published(AppointmentEventType.HOLD_CONFIRMED, appointment);
+    }
+
+    public void releaseHold(UUID holdId, UUID patientId) {
+        Appointment hold = appointmentRepository.findById(holdId)
+            .filter(found -> found.getPatientId().equals(patientId) && found.getStatus() == AppointmentStatus.HELD)
+            .orElseThrow(() -> new BusinessException("HOLD_NOT_FOUND", "Slot hold not found with ID: " + holdId, 404));
 
-        return appointmentMapper.toDto(savedAppointment);
+        if (appointmentRepository.deleteHold(holdId, patientId, AppointmentStatus.HELD) > 0) {
+            release(hold);
+            calendarCache.removed(hold.getDoctorId(), holdId);
+            eventPublisher.publishEvent(slotFreed(hold));
+            published(AppointmentEventType.HOLD_RELEASED, hold);
+            log.info("Released slot hold with ID: {}", holdId);
+        }
     }
 
+    @Transactional(readOnly = true)
     public AppointmentDto getAppointment(UUID appointmentId) {
         Appointment appointment = appointmentRepository.findById(appointmentId)
+            .or(() -> appointmentRepository.findArchivedById(appointmentId))
             .orElseThrow(() -> new BusinessException("APPOINTMENT_NOT_FOUND", "Appointment not found with ID: " + appointmentId, 404));
         return appointmentMapper.toDto(appointment);
     }
 
+    @Transactional(readOnly = true)
     public Page<AppointmentDto> getPatientAppointments(UUID patientId, Pageable pageable) {
-        Page<Appointment> appointments = appointmentRepository.findByPatientIdOrderByAppointmentDateTimeDesc(patientId, pageable);
+        Page<Appointment> appointments = appointmentRepository.findPatientHistory(patientId, pageable);
         return appointments.map(appointmentMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<AppointmentDto> getDoctorAppointments(UUID doctorId, Pageable pageable) {
-        Page<Appointment> appointments = appointmentRepository.findByDoctorIdOrderByAppointmentDateTimeDesc(doctorId, pageable);
+        Page<Appointment> appointments = appointmentRepository.findDoctorHistory(doctorId, pageable);
         return appointments.map(appointmentMapper::toDto);
     }
 
@@ -103,52 +189,43 @@ public class AppointmentService {
     }
 
     public AppointmentDto confirmAppointment(UUID appointmentId) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-            .orElseThrow(() -> new BusinessException("APPOINTMENT_NOT_FOUND", "Appointment not found with ID: " + appointmentId, 404));
-
-        if (appointment.getStatus() != AppointmentStatus.SCHEDULED) {
-            throw new BusinessException("INVALID_STATUS", "Only scheduled appointments can be confirmed", 400);
-        }
-
-        appointment.setStatus(AppointmentStatus.CONFIRMED);
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        AppointmentTransition transition = AppointmentTransition.CONFIRM;
+        Appointment appointment = appointmentRepository.transitionStatus(
+                appointmentId, transition.getSourceNames(), transition.getTarget().name(), LocalDateTime.now())
+            .orElseThrow(() -> transitionRejected(appointmentId, transition));
+        calendarCache.updated(appointment);
         log.info("Confirmed appointment with ID: {}", appointmentId);
 
-        return appointmentMapper.toDto(savedAppointment);
+        return published(AppointmentEventType.CONFIRMED, appointment);
     }
 
     public AppointmentDto cancelAppointment(UUID appointmentId, String reason, UUID cancelledBy) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-            .orElseThrow(() -> new BusinessException("APPOINTMENT_NOT_FOUND", "Appointment not found with ID: " + appointmentId, 404));
-
-        if (appointment.getStatus() == AppointmentStatus.COMPLETED || appointment.getStatus() == AppointmentStatus.CANCELLED) {
-            throw new BusinessException("INVALID_STATUS", "Cannot cancel completed or already cancelled appointment", 400);
-        }
-
-        appointment.setStatus(AppointmentStatus.CANCELLED);
-        appointment.setCancelledReason(reason);
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        AppointmentTransition transition = AppointmentTransition.CANCEL;
+        Appointment appointment = appointmentRepository.transitionToCancelled(
+                appointmentId, transition.getSourceNames(), transition.getTarget().name(),
+                reason, cancelledBy, LocalDateTime.now())
+            .orElseThrow(() -> transitionRejected(appointmentId, transition));
+        release(appointment);
+        calendarCache.updated(appointment);
+        eventPublisher.publishEvent(slotFreed(appointment));
         log.info("Cancelled appointment with ID: {} by user: {}", appointmentId, cancelledBy);
 
-        return appointmentMapper.toDto(savedAppointment);
+        AppointmentDto cancelled = appointmentMapper.toDto(appointment);
+        appointmentEvents.changed(AppointmentEventType.CANCELLED, cancelled, null, cancelledBy, reason);
+        return cancelled;
     }
 
     public AppointmentDto completeAppointment(UUID appointmentId, String notes) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-            .orElseThrow(() -> new BusinessException("APPOINTMENT_NOT_FOUND", "Appointment not found with ID: " + appointmentId, 404));
-
-        if (appointment.getStatus() != AppointmentStatus.IN_PROGRESS && appointment.getStatus() != AppointmentStatus.CONFIRMED) {
-            throw new BusinessException("INVALID_STATUS", "Only confirmed or in-progress appointments can be completed", 400);
-        }
-
-        appointment.setStatus(AppointmentStatus.COMPLETED);
-        if (notes != null) {
-            appointment.setNotes(notes);
-        }
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        AppointmentTransition transition = AppointmentTransition.COMPLETE;
+        Appointment appointment = appointmentRepository.transitionToCompleted(
+                appointmentId, transition.getSourceNames(), transition.getTarget().name(),
+                notes, LocalDateTime.now())
+            .orElseThrow(() -> transitionRejected(appointmentId, transition));
+        bookingEngine.release(appointment.getDoctorId(), appointmentId);
+        calendarCache.updated(appointment);
         log.info("Completed appointment with ID: {}", appointmentId);
 
-        return appointmentMapper.toDto(savedAppointment);
+        return published(AppointmentEventType.COMPLETED, appointment);
     }
 
     public void validateAppointmentExists(UUID appointmentId) {
@@ -157,22 +234,113 @@ public class AppointmentService {
         }
     }
 
-    public List<AppointmentDto> getAppointmentsByStatus(AppointmentStatus status) {
-        List<Appointment> appointments = appointmentRepository.findByStatusOrderByAppointmentDateTime(status);
-        return appointments.stream()
-            .map(appointmentMapper::toDto)
-            .toList();
+    public Page<AppointmentDto> getAppointmentsByStatus(AppointmentStatus status, Pageable pageable) {
+        return appointmentRepository.findByStatusOrderByAppointmentDateTime(status, pageable)
+            .map(appointmentMapper::toDto);
     }
 
     public List<AppointmentDto> getTodaysAppointments(UUID doctorId) {
-        LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-        
-        List<Appointment> appointments = appointmentRepository.findByDoctorIdAndAppointmentDateTimeBetweenOrderByAppointmentDateTime(
-            doctorId, startOfDay, endOfDay);
-        
-        return appointments.stream()
-            .map(appointmentMapper::toDto)
-            .toList();
+        return calendarCache.get(doctorId, CalendarView.DAY).getAppointments();
+    }
+
+    public CalendarViewDto getDoctorCalendar(UUID doctorId, CalendarView view) {
+        return calendarCache.get(doctorId, view);
+    }
+
+    // Only read when a conditional update matched nothing, to tell a missing row from a status conflict
+    private BusinessException transitionRejected(UUID appointmentId, AppointmentTransition transition) {
+        if (!appointmentRepository.existsById(appointmentId)) {
+            return new BusinessException("APPOINTMENT_NOT_FOUND", "Appointment not found with ID: " + appointmentId, 404);
+        }
+        return new BusinessException("INVALID_STATUS", transition.getInvalidStatusMessage(), 400);
+    }
+
+    private AppointmentDto published(AppointmentEventType type, Appointment appointment) {
+        AppointmentDto dto = appointmentMapper.toDto(appointment);
+        appointmentEvents.changed(type, dto);
+        return dto;
+    }
+
+    // Only called after a conditional status change matched, so each booking is released once
+    private void release(Appointment appointment) {
+        if (Boolean.TRUE.equals(appointment.getSharedSlot())) {
+            slotSeats.release(appointment.getDoctorId(), appointment.getAppointmentDateTime());
+        } else {
+            bookingEngine.release(appointment.getDoctorId(), appointment.getId());
+        }
+    }
+
+    private static SlotFreedEvent slotFreed(Appointment appointment) {
+        return SlotFreedEvent.of(appointment.getDoctorId(), appointment.getAppointmentDateTime(), appointment.getDurationMinutes());
+    }
+
+    // The checks are independent, so any remote calls they need are in flight at the same time.
+    // Returns the shared slot the request books, or null for a booking of the doctor's own time.
+    private SharedSlot validateBookingRequest(CreateAppointmentRequest request) {
+        if (request.getAppointmentDateTime() != null && request.getDurationMinutes() != null
+                && BookingConflicts.crossesMonth(request.getAppointmentDateTime(), request.getDurationMinutes())) {
+            throw new BusinessException("INVALID_TIME", "Appointments cannot run past the end of a month", 400);
+        }
+        CompletableFuture<Void> doctor = doctorService.checkDoctor(request.getDoctorId());
+        CompletableFuture<Void> patient = patientService.checkPatient(request.getPatientId());
+        CompletableFuture<Boolean> available = availabilityService.isDoctorAvailable(
+                request.getDoctorId(), request.getAppointmentDateTime(), request.getDurationMinutes());
+        CompletableFuture<Optional<SharedSlot>> sharedSlot = availabilityService.findSharedSlot(
+                request.getDoctorId(), request.getAppointmentDateTime(), request.getDurationMinutes());
+
+        ServiceHttpClient.await(doctor);
+        ServiceHttpClient.await(patient);
+        if (!ServiceHttpClient.await(available)) {
+            throw new BusinessException("DOCTOR_NOT_AVAILABLE", "Doctor is not available at the requested time", 400);
+        }
+        return ServiceHttpClient.await(sharedSlot).orElse(null);
+    }
+
+    private Appointment newAppointment(CreateAppointmentRequest request, AppointmentStatus status) {
+        return Appointment.builder()
+            .patientId(request.getPatientId())
+            .doctorId(request.getDoctorId())
+            .appointmentDateTime(request.getAppointmentDateTime())
+            .consultationMode(request.getConsultationMode())
+            .durationMinutes(request.getDurationMinutes())
+            .consultationFee(request.getConsultationFee())
+            .reasonForVisit(request.getReasonForVisit())
+            .symptoms(request.getSymptoms())
+            .status(status)
+            .build();
+    }
+
+    // Conflict check and reservation are atomic per doctor; the row is written through afterwards,
+    // with the slot exclusion constraint as the final guard. A shared slot takes one of its seats
+    // instead, and its bookings are left out of both.
+    private Appointment book(Appointment appointment, SharedSlot sharedSlot) {
+        Appointment saved;
+        if (sharedSlot != null) {
+            slotSeats.take(sharedSlot);
+            appointment.setSharedSlot(true);
+            saved = insertAppointment(appointment);
+        } else {
+            saved = bookingEngine.book(
+                appointment.getDoctorId(),
+                appointment.getAppointmentDateTime(),
+                appointment.getDurationMinutes(),
+                () -> insertAppointment(appointment),
+                Appointment::getId
+            );
+        }
+        calendarCache.updated(saved);
+        return saved;
+    }
+
+    // Flushes immediately so that an overlapping booking fails here rather than at commit
+    private Appointment insertAppointment(Appointment appointment) {
+        try {
+            return appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (BookingConflicts.isSlotConflict(e)) {
+                throw new BusinessException("APPOINTMENT_CONFLICT", "Doctor already has an appointment at this time", 409);
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.docmate.appointment.service;
+
+import com.docmate.common.enums.AppointmentStatus;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The legal status moves of an appointment. Each transition is applied as one conditional
+ * {@code UPDATE ... WHERE status IN (sources)}, so a concurrent move can never be overwritten.
+ */
+public enum AppointmentTransition {
+
+    CONVERT_HOLD(AppointmentStatus.SCHEDULED, EnumSet.of(AppointmentStatus.HELD),
+            "Only held slots can be converted into appointments"),
+    CONFIRM(AppointmentStatus.CONFIRMED, EnumSet.of(AppointmentStatus.SCHEDULED),
+            "Only scheduled appointments can be confirmed"),
+    COMPLETE(AppointmentStatus.COMPLETED, EnumSet.of(AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS),
+            "Only confirmed or in-progress appointments can be completed"),
+    CANCEL(AppointmentStatus.CANCELLED, EnumSet.complementOf(EnumSet.of(AppointmentStatus.COMPLETED, AppointmentStatus.CANCELLED)),
+            "Cannot cancel completed or already cancelled appointment");
+
+    private final AppointmentStatus target;
+    private final Set<AppointmentStatus> sources;
+    private final List<String> sourceNames;
+    private final String invalidStatusMessage;
+
+    AppointmentTransition(AppointmentStatus target, Set<AppointmentStatus> sources, String invalidStatusMessage) {
+        this.target = target;
+        this.sources = Collections.unmodifiableSet(sources);
+        this.sourceNames = sources.stream().map(Enum::name).toList();
+        this.invalidStatusMessage = invalidStatusMessage;
+    }
+
+    public AppointmentStatus getTarget() {
+        return target;
+    }
+
+    public Set<AppointmentStatus> getSources() {
+        return sources;
+    }
+
+    // Source statuses as stored in the status column, for native queries
+    public List<String> getSourceNames() {
+        return sourceNames;
+    }
+
+    public String getInvalidStatusMessage() {
+        return invalidStatusMessage;
+    }
+
+    public boolean isAllowedFrom(AppointmentStatus status) {
+        return sources.contains(status);
+    }
+}
@@ -1,35 +1,80 @@
 package com.docmate.appointment.service;
 
+import com.docmate.appointment.booking.SharedSlot;
+import com.docmate.appointment.client.AvailabilityServiceClient;
+import com.docmate.appointment.directory.DirectoryCache;
+import com.docmate.common.dto.AvailabilityDto;
+import com.docmate.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AvailabilityService {
 
-    // This would typically call the availability-service microservice
-    // For now, implementing a simple availability check
-    public boolean isDoctorAvailable(UUID doctorId, LocalDateTime appointmentDateTime, Integer durationMinutes) {
+    private static final int DEFAULT_SLOT_MINUTES = 30;
+
+    private final DirectoryCache directoryCache;
+    private final AvailabilityServiceClient availabilityServiceClient;
+
+    /**
+     * Checks with availability-service, which applies effective dates and blocked slots as well as
+     * the recurring and one-off schedule, and answers from its in-memory index.
+     */
+    public CompletableFuture<Boolean> isDoctorAvailable(UUID doctorId, LocalDateTime appointmentDateTime, Integer durationMinutes) {
         if (doctorId == null || appointmentDateTime == null || durationMinutes == null) {
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
-        
-        // TODO: Implement actual availability check by calling availability-service
-        // For now, assume doctors are available during business hours (9 AM - 5 PM)
-        int hour = appointmentDateTime.getHour();
-        boolean isBusinessHours = hour >= 9 && hour < 17;
-        
-        log.debug("Checking availability for doctor {} at {}: {}", doctorId, appointmentDateTime, isBusinessHours);
-        return isBusinessHours;
+        return availabilityServiceClient.isDoctorAvailable(doctorId, appointmentDateTime, durationMinutes);
     }
-    
-    public boolean isTimeSlotAvailable(UUID doctorId, LocalDateTime startTime, LocalDateTime endTime) {
-        // TODO: Implement actual time slot availability check
-        return isDoctorAvailable(doctorId, startTime, 30);
+
+    /**
+     * The shared slot the requested time books, if a recurring window with a capacity above one
+     * covers it. Such a window is booked by whole slots only, as availability-service cuts them.
+     * Whether the window is in effect on that day is left to {@link #isDoctorAvailable}.
+     *
+     * @throws BusinessException {@code INVALID_SLOT} if the time is not exactly one of its slots
+     */
+    public CompletableFuture<Optional<SharedSlot>> findSharedSlot(UUID doctorId, LocalDateTime appointmentDateTime, Integer durationMinutes) {
+        if (doctorId == null || appointmentDateTime == null || durationMinutes == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return directoryCache.getRecurringSchedule(doctorId).thenApply(schedule -> {
+            for (AvailabilityDto availability : schedule) {
+                if (availability.getCapacity() != null && availability.getCapacity() > 1
+                        && covers(availability, appointmentDateTime, durationMinutes)) {
+                    int slotMinutes = availability.getSlotDurationMinutes() != null && availability.getSlotDurationMinutes() > 0
+                            ? availability.getSlotDurationMinutes()
+                            : DEFAULT_SLOT_MINUTES;
+                    long offset = ChronoUnit.MINUTES.between(availability.getStartTime(), appointmentDateTime.toLocalTime());
+                    if (durationMinutes != slotMinutes || offset % slotMinutes != 0) {
+                        throw new BusinessException("INVALID_SLOT",
+                                "Group sessions are booked by whole slots of " + slotMinutes + " minutes", 400);
+                    }
+                    return Optional.of(new SharedSlot(doctorId, appointmentDateTime, availability.getCapacity()));
+                }
+            }
+            return Optional.<SharedSlot>empty();
+        });
+    }
+
+    private static boolean covers(AvailabilityDto availability, LocalDateTime dateTime, int durationMinutes) {
+        LocalTime start = dateTime.toLocalTime();
+        LocalTime end = start.plusMinutes(durationMinutes);
+        return availability.getDayOfWeek() != null
+                && availability.getDayOfWeek().name().equals(dateTime.getDayOfWeek().name())
+                && !start.isBefore(availability.getStartTime())
+                && !end.isAfter(availability.getEndTime())
+                // A window running past midnight is left to availability-service
+                && !end.isBefore(start);
     }
 }
@@ -0,0 +1,178 @@
+package com.docmate.appointment.service;
+
+import com.docmate.appointment.calendar.IcsWriter;
+import com.docmate.appointment.dto.CalendarFeedDto;
+import com.docmate.appointment.dto.CalendarFeedOwner;
+import com.docmate.appointment.entity.Appointment;
+import com.docmate.appointment.repository.AppointmentRepository;
+import com.docmate.common.enums.AppointmentStatus;
+import com.docmate.common.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * iCalendar feeds of a doctor's or a patient's appointments for calendar apps to subscribe to.
+ * <p>
+ * Feed URLs carry an HMAC of the owner, so they can be polled without a login. The ETag is built
+ * from an aggregate over the owner's feed rows and the feed window, read with one index scan, which
+ * lets a poll of an unchanged feed be answered without reading any appointments. As it comes from
+ * the database, every instance gives the same ETag for the same feed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final Set<AppointmentStatus> FEED_STATUSES =
+            EnumSet.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED, AppointmentStatus.COMPLETED);
+    private static final List<String> FEED_STATUS_NAMES = FEED_STATUSES.stream().map(Enum::name).toList();
+
+    private final AppointmentRepository appointmentRepository;
+    private final EntityManager entityManager;
+
+    @Value("${app.calendar.feed.secret}")
+    private String feedSecret;
+
+    @Value("${app.calendar.feed.base-url:http://localhost:8080}")
+    private String feedBaseUrl;
+
+    @Value("${app.calendar.feed.past-days:30}")
+    private int pastDays;
+
+    @Value("${app.calendar.feed.future-days:180}")
+    private int futureDays;
+
+    public CalendarFeedDto getFeed(CalendarFeedOwner owner, UUID userId) {
+        String url = feedBaseUrl + "/api/appointments/calendar/feeds/" + owner.getPathSegment() + "/" + userId
+                + ".ics?token=" + sign(owner, userId);
+        return CalendarFeedDto.builder().owner(owner).url(url).build();
+    }
+
+    public void verify(CalendarFeedOwner owner, UUID userId, String token) {
+        byte[] expected = sign(owner, userId).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token == null ? new byte[0] : token.getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new BusinessException("INVALID_FEED_TOKEN", "Calendar feed link is not valid", 403);
+        }
+    }
+
+    /**
+     * Returns the strong ETag the feed would be served with now; reads only an aggregate of its rows.
+     */
+    @Transactional(readOnly = true)
+    public String eTag(CalendarFeedOwner owner, UUID userId) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime from = windowStart(today).atStartOfDay();
+        LocalDateTime to = windowEnd(today).atStartOfDay();
+        String version = owner == CalendarFeedOwner.DOCTOR
+                ? appointmentRepository.findDoctorFeedVersion(userId, FEED_STATUS_NAMES, from, to)
+                : appointmentRepository.findPatientFeedVersion(userId, FEED_STATUS_NAMES, from, to);
+        return "\"" + version + "-" + windowStart(today) + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public void write(CalendarFeedOwner owner, UUID userId, OutputStream out) throws IOException {
+        LocalDate today = LocalDate.now();
+        LocalDateTime from = windowStart(today).atStartOfDay();
+        LocalDateTime to = windowEnd(today).atStartOfDay();
+
+        // Not closed: the output stream belongs to the caller
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        IcsWriter ics = new IcsWriter(writer, ZoneId.systemDefault());
+        ics.property("BEGIN", "VCALENDAR")
+                .property("VERSION", "2.0")
+                .property("PRODID", "-//DocMate//Appointments//EN")
+                .property("CALSCALE", "GREGORIAN")
+                .property("METHOD", "PUBLISH")
+                .text("X-WR-CALNAME", "DocMate appointments");
+
+        int count = 0;
+        try (Stream<Appointment> appointments = owner == CalendarFeedOwner.DOCTOR
+                ? appointmentRepository.streamDoctorFeed(userId, FEED_STATUSES, from, to)
+                : appointmentRepository.streamPatientFeed(userId, FEED_STATUSES, from, to)) {
+            Iterator<Appointment> rows = appointments.iterator();
+            while (rows.hasNext()) {
+                Appointment appointment = rows.next();
+                writeEvent(ics, owner, appointment);
+                entityManager.detach(appointment);
+                count++;
+            }
+        }
+        ics.property("END", "VCALENDAR").flush();
+
+        log.debug("Served calendar feed of {} {} with {} appointments", owner, userId, count);
+    }
+
+    private static void writeEvent(IcsWriter ics, CalendarFeedOwner owner, Appointment appointment) throws IOException {
+        LocalDateTime start = appointment.getAppointmentDateTime();
+        int durationMinutes = appointment.getDurationMinutes() != null ? appointment.getDurationMinutes() : 30;
+        LocalDateTime stamp = appointment.getUpdatedDate() != null ? appointment.getUpdatedDate() : appointment.getCreatedDate();
+        String with = owner == CalendarFeedOwner.DOCTOR ? "Patient appointment" : "Doctor appointment";
+
+        ics.property("BEGIN", "VEVENT")
+                .property("UID", appointment.getId() + "@docmate")
+                .dateTime("DTSTAMP", stamp != null ? stamp : start)
+                .dateTime("DTSTART", start)
+                .dateTime("DTEND", start.plusMinutes(durationMinutes))
+                .property("SEQUENCE", String.valueOf(appointment.getVersion() != null ? appointment.getVersion() : 0))
+                .property("STATUS", appointment.getStatus() == AppointmentStatus.SCHEDULED ? "TENTATIVE" : "CONFIRMED")
+                .text("SUMMARY", appointment.getConsultationMode() != null
+                        ? with + " (" + appointment.getConsultationMode() + ")"
+                        : with);
+        if (appointment.getReasonForVisit() != null) {
+            ics.text("DESCRIPTION", appointment.getReasonForVisit());
+        }
+        if (appointment.getMeetingLink() != null) {
+            ics.text("LOCATION", appointment.getMeetingLink());
+        }
+        ics.property("END", "VEVENT");
+    }
+
+    private LocalDate windowStart(LocalDate today) {
+        return today.minusDays(pastDays);
+    }
+
+    // Exclusive
+    private LocalDate windowEnd(LocalDate today) {
+        return today.plusDays(futureDays + 1L);
+    }
+
+    private String sign(CalendarFeedOwner owner, UUID userId) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(feedSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            byte[] signature = mac.doFinal((owner.name() + ":" + userId).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign calendar feed URLs", e);
+        }
+    }
+}
@@ -1,31 +1,42 @@
 package com.docmate.appointment.service;
 
+import com.docmate.appointment.client.ServiceHttpClient;
+import com.docmate.appointment.directory.DirectoryCache;
+import com.docmate.common.dto.AccountStatusDto;
 import com.docmate.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DoctorService {
 
-    // This would typically call the user-service or doctor microservice
-    // For now, implementing a simple validation
+    private final DirectoryCache directoryCache;
+
     public void validateDoctorExists(UUID doctorId) {
+        ServiceHttpClient.await(checkDoctor(doctorId));
+    }
+
+    /**
+     * Completes once the doctor is known to be approved and active, or fails with the reason they cannot be booked.
+     */
+    public CompletableFuture<Void> checkDoctor(UUID doctorId) {
         if (doctorId == null) {
-            throw new BusinessException("INVALID_DOCTOR", "Doctor ID cannot be null", 400);
+            return CompletableFuture.failedFuture(
+                    new BusinessException("INVALID_DOCTOR", "Doctor ID cannot be null", 400));
         }
-        
-        // TODO: Implement actual validation by calling user-service or doctor microservice
-        // For now, assume all non-null doctor IDs are valid
-        log.debug("Validating doctor exists: {}", doctorId);
-    }
-    
-    public boolean isDoctorActive(UUID doctorId) {
-        // TODO: Implement actual check by calling user-service
-        return true;
+        return directoryCache.getDoctorStatus(doctorId).thenAccept(status -> {
+            AccountStatusDto doctor = status.orElseThrow(() ->
+                    new BusinessException("DOCTOR_NOT_FOUND", "Doctor not found with ID: " + doctorId, 404));
+            if (!Boolean.TRUE.equals(doctor.getApproved()) || !Boolean.TRUE.equals(doctor.getActive())) {
+                throw new BusinessException("INVALID_DOCTOR", "Doctor is not accepting appointments", 400);
+            }
+            log.debug("Validated doctor {}", doctorId);
+        });
     }
 }
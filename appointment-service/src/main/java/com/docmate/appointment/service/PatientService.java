@@ -1,31 +1,42 @@
 package com.docmate.appointment.service;
 
+import com.docmate.appointment.client.ServiceHttpClient;
+import com.docmate.appointment.directory.DirectoryCache;
+import com.docmate.common.dto.AccountStatusDto;
 import com.docmate.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PatientService {
 
-    // This would typically call the user-service or patient microservice
-    // For now, implementing a simple validation
+    private final DirectoryCache directoryCache;
+
     public void validatePatientExists(UUID patientId) {
+        ServiceHttpClient.await(checkPatient(patientId));
+    }
+
+    /**
+     * Completes once the patient is known to be active, or fails with the reason they cannot book.
+     */
+    public CompletableFuture<Void> checkPatient(UUID patientId) {
         if (patientId == null) {
-            throw new BusinessException("INVALID_PATIENT", "Patient ID cannot be null", 400);
+            return CompletableFuture.failedFuture(
+                    new BusinessException("INVALID_PATIENT", "Patient ID cannot be null", 400));
         }
-        
-        // TODO: Implement actual validation by calling user-service or patient microservice
-        // For now, assume all non-null patient IDs are valid
-        log.debug("Validating patient exists: {}", patientId);
-    }
-    
-    public boolean isPatientActive(UUID patientId) {
-        // TODO: Implement actual check by calling user-service
-        return true;
+        return directoryCache.getPatientStatus(patientId).thenAccept(status -> {
+            AccountStatusDto patient = status.orElseThrow(() ->
+                    new BusinessException("PATIENT_NOT_FOUND", "Patient not found with ID: " + patientId, 404));
+            if (!Boolean.TRUE.equals(patient.getActive())) {
+                throw new BusinessException("INVALID_PATIENT", "Patient account is not active", 400);
+            }
+            log.debug("Validated patient {}", patientId);
+        });
     }
 }
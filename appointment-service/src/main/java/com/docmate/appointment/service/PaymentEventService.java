@@ -0,0 +1,52 @@
+package com.docmate.appointment.service;
+
+import com.docmate.appointment.dto.PaymentEventMessage;
+import com.docmate.appointment.dto.PaymentSummaryDto;
+import com.docmate.common.enums.PaymentStatus;
+import com.docmate.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Converts slot holds as payment-service reports their payments completed. Events are accepted
+ * only with the token payment-service's outbox relay is configured with. A hold that can no
+ * longer be converted, for example because it expired first, is logged for a refund rather than
+ * retried.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentEventService {
+
+    private static final String PAYMENT_AGGREGATE = "Payment";
+
+    private final AppointmentService appointmentService;
+
+    @Value("${app.payments.event-token:}")
+    private String eventToken;
+
+    public void handle(PaymentEventMessage message, String token) {
+        if (eventToken.isEmpty() || token == null
+                || !MessageDigest.isEqual(eventToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new BusinessException("INVALID_EVENT_TOKEN", "Event token is missing or invalid", 401);
+        }
+        PaymentSummaryDto payment = message.getPayload();
+        if (!PAYMENT_AGGREGATE.equals(message.getAggregateType())
+                || !PaymentStatus.COMPLETED.name().equals(message.getEventType())
+                || payment == null || payment.getId() == null || payment.getAppointmentId() == null) {
+            return;
+        }
+
+        try {
+            appointmentService.confirmPaidHold(payment.getAppointmentId(), payment);
+        } catch (BusinessException e) {
+            log.warn("Payment {} completed but appointment {} was not converted: {} ({})",
+                    payment.getId(), payment.getAppointmentId(), e.getMessage(), e.getCode());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.docmate.appointment.service;
+
+import com.docmate.appointment.dto.JoinWaitlistRequest;
+import com.docmate.appointment.dto.WaitlistEntryDto;
+import com.docmate.appointment.entity.WaitlistEntry;
+import com.docmate.appointment.mapper.WaitlistMapper;
+import com.docmate.appointment.repository.WaitlistEntryRepository;
+import com.docmate.appointment.waitlist.WaitlistEngine;
+import com.docmate.common.enums.WaitlistStatus;
+import com.docmate.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final WaitlistMapper waitlistMapper;
+    private final WaitlistEngine waitlistEngine;
+    private final DoctorService doctorService;
+
+    @Value("${app.waitlist.max-range-days:31}")
+    private int maxRangeDays;
+
+    public WaitlistEntryDto joinWaitlist(JoinWaitlistRequest request, UUID patientId) {
+        doctorService.validateDoctorExists(request.getDoctorId());
+
+        LocalDateTime earliest = request.getEarliest().isBefore(LocalDateTime.now())
+                ? LocalDateTime.now()
+                : request.getEarliest();
+        if (!earliest.isBefore(request.getLatest())) {
+            throw new BusinessException("INVALID_RANGE", "Earliest time must be before latest time", 400);
+        }
+        if (Duration.between(earliest, request.getLatest()).toDays() >= maxRangeDays) {
+            throw new BusinessException("INVALID_RANGE", "Waitlist range cannot exceed " + maxRangeDays + " days", 400);
+        }
+        if (waitlistEntryRepository.existsByPatientIdAndDoctorIdAndStatus(patientId, request.getDoctorId(), WaitlistStatus.WAITING)) {
+            throw new BusinessException("WAITLIST_ALREADY_JOINED", "Already on this doctor's waitlist", 409);
+        }
+
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .patientId(patientId)
+                .doctorId(request.getDoctorId())
+                .earliest(earliest)
+                .latest(request.getLatest())
+                .consultationMode(request.getConsultationMode())
+                .build();
+        WaitlistEntry savedEntry = waitlistEntryRepository.save(entry);
+        waitlistEngine.register(savedEntry);
+        log.info("Patient {} joined waitlist of doctor {} with entry {}", patientId, request.getDoctorId(), savedEntry.getId());
+
+        return waitlistMapper.toDto(savedEntry);
+    }
+
+    public void leaveWaitlist(UUID entryId, UUID patientId) {
+        WaitlistEntry entry = findWaitingEntry(entryId);
+        if (!entry.getPatientId().equals(patientId)) {
+            throw new BusinessException("WAITLIST_ENTRY_NOT_FOUND", "Waitlist entry not found with ID: " + entryId, 404);
+        }
+
+        entry.setStatus(WaitlistStatus.CANCELLED);
+        waitlistEntryRepository.save(entry);
+        waitlistEngine.unregister(entry.getDoctorId(), entryId);
+        log.info("Patient {} left waitlist entry {}", patientId, entryId);
+    }
+
+    public WaitlistEntryDto updatePriority(UUID entryId, int priority) {
+        WaitlistEntry entry = findWaitingEntry(entryId);
+
+        entry.setPriority(priority);
+        WaitlistEntry savedEntry = waitlistEntryRepository.save(entry);
+        // Re-register so the entry is re-sorted under its new priority
+        waitlistEngine.unregister(savedEntry.getDoctorId(), entryId);
+        waitlistEngine.register(savedEntry);
+        log.info("Set priority of waitlist entry {} to {}", entryId, priority);
+
+        return waitlistMapper.toDto(savedEntry);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<WaitlistEntryDto> getPatientEntries(UUID patientId, Pageable pageable) {
+        return waitlistEntryRepository.findByPatientIdOrderByCreatedDateDesc(patientId, pageable)
+                .map(waitlistMapper::toDto);
+    }
+
+    private WaitlistEntry findWaitingEntry(UUID entryId) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId)
+                .orElseThrow(() -> new BusinessException("WAITLIST_ENTRY_NOT_FOUND", "Waitlist entry not found with ID: " + entryId, 404));
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new BusinessException("INVALID_STATUS", "Waitlist entry is no longer waiting", 400);
+        }
+        return entry;
+    }
+}
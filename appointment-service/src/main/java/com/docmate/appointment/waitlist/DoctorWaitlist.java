@@ -0,0 +1,83 @@
+package com.docmate.appointment.waitlist;
+
+import com.docmate.common.enums.ConsultationMode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The waiting patients of one doctor, kept in offer order under every day their range covers. A
+ * freed slot only looks at the waiters of its own day, best first, so finding the waiter to
+ * offer it to does not depend on how many patients wait for other days.
+ * <p>
+ * Not thread-safe: {@link WaitlistEngine} only touches it inside the waitlist map's per-key compute.
+ */
+final class DoctorWaitlist {
+
+    static final Comparator<Waiter> OFFER_ORDER = Comparator
+            .comparingInt(Waiter::priority).reversed()
+            .thenComparing(Waiter::joinedAt)
+            .thenComparing(Waiter::entryId);
+
+    private final Map<LocalDate, NavigableSet<Waiter>> byDay = new HashMap<>();
+    private final Map<UUID, Waiter> byEntry = new HashMap<>();
+
+    void add(Waiter waiter) {
+        if (byEntry.putIfAbsent(waiter.entryId(), waiter) != null) {
+            return;
+        }
+        for (LocalDate day = waiter.earliest().toLocalDate(); !day.isAfter(waiter.latest().toLocalDate()); day = day.plusDays(1)) {
+            byDay.computeIfAbsent(day, key -> new TreeSet<>(OFFER_ORDER)).add(waiter);
+        }
+    }
+
+    Waiter remove(UUID entryId) {
+        Waiter waiter = byEntry.remove(entryId);
+        if (waiter == null) {
+            return null;
+        }
+        for (LocalDate day = waiter.earliest().toLocalDate(); !day.isAfter(waiter.latest().toLocalDate()); day = day.plusDays(1)) {
+            NavigableSet<Waiter> waiters = byDay.get(day);
+            if (waiters != null && waiters.remove(waiter) && waiters.isEmpty()) {
+                byDay.remove(day);
+            }
+        }
+        return waiter;
+    }
+
+    /**
+     * Removes and returns the first waiter, in offer order, whose range includes {@code start},
+     * or null if there is none. The caller puts the waiter back if the offer fails.
+     */
+    Waiter claim(LocalDateTime start) {
+        NavigableSet<Waiter> waiters = byDay.get(start.toLocalDate());
+        if (waiters == null) {
+            return null;
+        }
+        for (Waiter waiter : waiters) {
+            if (!start.isBefore(waiter.earliest()) && !start.isAfter(waiter.latest())) {
+                return remove(waiter.entryId());
+            }
+        }
+        return null;
+    }
+
+    boolean isEmpty() {
+        return byEntry.isEmpty();
+    }
+
+    record Waiter(UUID entryId,
+                  UUID patientId,
+                  LocalDateTime earliest,
+                  LocalDateTime latest,
+                  ConsultationMode consultationMode,
+                  int priority,
+                  LocalDateTime joinedAt) {
+    }
+}
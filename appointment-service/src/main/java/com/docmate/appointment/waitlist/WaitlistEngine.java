@@ -0,0 +1,191 @@
+package com.docmate.appointment.waitlist;
+
+import com.docmate.appointment.dto.AppointmentDto;
+import com.docmate.appointment.dto.CreateAppointmentRequest;
+import com.docmate.appointment.dto.ExpiredWaitlistEntryView;
+import com.docmate.appointment.entity.WaitlistEntry;
+import com.docmate.appointment.event.AppointmentEvents;
+import com.docmate.appointment.event.SlotFreedEvent;
+import com.docmate.appointment.event.WaitlistOfferEvent;
+import com.docmate.appointment.repository.WaitlistEntryRepository;
+import com.docmate.appointment.service.AppointmentService;
+import com.docmate.common.enums.WaitlistStatus;
+import com.docmate.common.exception.BusinessException;
+import com.docmate.common.util.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Offers freed slots to waitlisted patients. When a slot frees up, the best waiter whose range
+ * includes it gets a slot hold and a {@link WaitlistOfferEvent}; if they do not confirm in time the
+ * hold expires, which frees the slot for the next waiter.
+ * <p>
+ * Offers run on a single background thread right after the freeing transaction commits. The
+ * waiting entries are held in memory per doctor and rebuilt from the database on startup; the
+ * database stays authoritative, since an entry is only offered if it can still be moved from
+ * WAITING to OFFERED.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistEngine {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final AppointmentService appointmentService;
+    private final AppointmentEvents appointmentEvents;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.waitlist.offer-hold-minutes:15}")
+    private int offerHoldMinutes;
+
+    private final Map<UUID, DoctorWaitlist> waitlists = new ConcurrentHashMap<>();
+    private final ExecutorService offers = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-offers");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Adds the entry to its doctor's waitlist once the current transaction commits.
+     */
+    public void register(WaitlistEntry entry) {
+        DoctorWaitlist.Waiter waiter = toWaiter(entry);
+        TransactionCallbacks.afterCommit(() -> add(entry.getDoctorId(), waiter));
+    }
+
+    /**
+     * Removes the entry from its doctor's waitlist once the current transaction commits.
+     */
+    public void unregister(UUID doctorId, UUID entryId) {
+        TransactionCallbacks.afterCommit(() -> remove(doctorId, entryId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotFreed(SlotFreedEvent event) {
+        if (waitlists.containsKey(event.doctorId())) {
+            offers.execute(() -> offer(event));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<WaitlistEntry> entries = waitlistEntryRepository.findByStatusAndLatestAfter(
+                WaitlistStatus.WAITING, LocalDateTime.now());
+        entries.forEach(entry -> add(entry.getDoctorId(), toWaiter(entry)));
+        log.info("Rebuilt waitlists with {} waiting entries for {} doctors", entries.size(), waitlists.size());
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.waitlist.expire-interval-ms:60000}")
+    public void expireEndedEntries() {
+        List<ExpiredWaitlistEntryView> expired = waitlistEntryRepository.expireEndedBefore(LocalDateTime.now());
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        expired.forEach(entry -> unregister(entry.getDoctorId(), entry.getId()));
+        log.info("Expired {} waitlist entries", expired.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        offers.shutdownNow();
+    }
+
+    private void offer(SlotFreedEvent event) {
+        if (!event.start().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        DoctorWaitlist.Waiter claimed;
+        while ((claimed = claim(event.doctorId(), event.start())) != null) {
+            DoctorWaitlist.Waiter waiter = claimed;
+            try {
+                AppointmentDto hold = transactionTemplate.execute(status -> offer(event, waiter));
+                log.info("Offered slot {} of doctor {} to waitlist entry {} with hold {}",
+                        event.start(), event.doctorId(), waiter.entryId(), hold.getId());
+                return;
+            } catch (BusinessException e) {
+                if ("WAITLIST_ENTRY_TAKEN".equals(e.getCode())) {
+                    // Cancelled or offered elsewhere; try the next waiter
+                    continue;
+                }
+                // The slot cannot be offered, to this waiter or anyone else
+                add(event.doctorId(), waiter);
+                log.debug("Could not offer slot {} of doctor {}: {}", event.start(), event.doctorId(), e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                add(event.doctorId(), waiter);
+                log.warn("Failed to offer slot {} of doctor {}", event.start(), event.doctorId(), e);
+                return;
+            }
+        }
+    }
+
+    private AppointmentDto offer(SlotFreedEvent event, DoctorWaitlist.Waiter waiter) {
+        CreateAppointmentRequest request = CreateAppointmentRequest.builder()
+                .doctorId(event.doctorId())
+                .patientId(waiter.patientId())
+                .appointmentDateTime(event.start())
+                .consultationMode(waiter.consultationMode())
+                .durationMinutes(event.durationMinutes())
+                .build();
+        AppointmentDto hold = appointmentService.holdSlot(request, offerHoldMinutes);
+
+        int offered = waitlistEntryRepository.markOffered(waiter.entryId(), hold.getId(),
+                WaitlistStatus.WAITING, WaitlistStatus.OFFERED, LocalDateTime.now());
+        if (offered == 0) {
+            throw new BusinessException("WAITLIST_ENTRY_TAKEN", "Waitlist entry is no longer waiting", 409);
+        }
+        appointmentEvents.offered(new WaitlistOfferEvent(waiter.entryId(), waiter.patientId(), event.doctorId(),
+                hold.getId(), hold.getAppointmentDateTime(), hold.getHeldUntil()));
+        return hold;
+    }
+
+    // Waitlists are created, changed and dropped inside the map's per-key compute, so a change
+    // never lands on a waitlist that has just been dropped for being empty
+    private void add(UUID doctorId, DoctorWaitlist.Waiter waiter) {
+        waitlists.compute(doctorId, (id, waitlist) -> {
+            DoctorWaitlist updated = waitlist != null ? waitlist : new DoctorWaitlist();
+            updated.add(waiter);
+            return updated;
+        });
+    }
+
+    private void remove(UUID doctorId, UUID entryId) {
+        waitlists.computeIfPresent(doctorId, (id, waitlist) -> {
+            waitlist.remove(entryId);
+            return waitlist.isEmpty() ? null : waitlist;
+        });
+    }
+
+    private DoctorWaitlist.Waiter claim(UUID doctorId, LocalDateTime start) {
+        DoctorWaitlist.Waiter[] claimed = new DoctorWaitlist.Waiter[1];
+        waitlists.computeIfPresent(doctorId, (id, waitlist) -> {
+            claimed[0] = waitlist.claim(start);
+            return waitlist.isEmpty() ? null : waitlist;
+        });
+        return claimed[0];
+    }
+
+    private static DoctorWaitlist.Waiter toWaiter(WaitlistEntry entry) {
+        return new DoctorWaitlist.Waiter(entry.getId(), entry.getPatientId(), entry.getEarliest(), entry.getLatest(),
+                entry.getConsultationMode(), entry.getPriority(), entry.getCreatedDate());
+    }
+}
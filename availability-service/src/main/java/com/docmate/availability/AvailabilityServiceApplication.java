@@ -1,13 +1,17 @@
 package com.docmate.availability;
 
+import com.docmate.common.notify.EnableNotificationListener;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
+@EnableNotificationListener
 @EntityScan(basePackages = {"com.docmate.common.entity", "com.docmate.availability.entity"})
 @EnableJpaRepositories(basePackages = {"com.docmate.availability.repository"})
 public class AvailabilityServiceApplication {
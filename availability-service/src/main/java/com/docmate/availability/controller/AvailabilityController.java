@@ -1,21 +1,38 @@
 package com.docmate.availability.controller;
 
+import com.docmate.availability.dto.BookableSlotDto;
+import com.docmate.availability.dto.BulkAvailabilityRequest;
+import com.docmate.availability.dto.BulkAvailabilityResultDto;
+import com.docmate.availability.dto.EarliestSlotCriteria;
+import com.docmate.availability.dto.EarliestSlotDto;
+import com.docmate.availability.dto.FreeDoctorDto;
+import com.docmate.availability.dto.FreeDoctorSearchRequest;
+import com.docmate.availability.dto.SlotDayDto;
 import com.docmate.availability.service.AvailabilityService;
+import com.docmate.availability.service.BulkAvailabilityService;
+import com.docmate.availability.service.EarliestSlotService;
+import com.docmate.availability.service.FreeDoctorSearchService;
+import com.docmate.availability.service.SlotGridService;
+import com.docmate.availability.service.SlotStreamService;
 import com.docmate.common.dto.AvailabilityDto;
 import com.docmate.common.dto.CreateAvailabilityRequest;
 import com.docmate.common.dto.response.ApiResponse;
 import com.docmate.common.entity.User;
+import com.docmate.common.enums.ConsultationMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,6 +46,11 @@ import java.util.UUID;
 public class AvailabilityController {
 
     private final AvailabilityService availabilityService;
+    private final EarliestSlotService earliestSlotService;
+    private final SlotGridService slotGridService;
+    private final FreeDoctorSearchService freeDoctorSearchService;
+    private final BulkAvailabilityService bulkAvailabilityService;
+    private final SlotStreamService slotStreamService;
 
     @PostMapping("/recurring")
     @Operation(summary = "Set recurring availability", description = "Set doctor's recurring weekly availability")
@@ -50,6 +72,17 @@ public class AvailabilityController {
         return ResponseEntity.ok(ApiResponse.success("Adhoc availability set successfully", availability));
     }
 
+    @PutMapping("/bulk")
+    @Operation(summary = "Set schedule in bulk",
+            description = "Replace doctor's weekly template and/or ad-hoc slots within a date range, writing only the differences")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ResponseEntity<ApiResponse<BulkAvailabilityResultDto>> setScheduleInBulk(
+            @Valid @RequestBody BulkAvailabilityRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        BulkAvailabilityResultDto result = bulkAvailabilityService.applySchedule(request, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Schedule applied successfully", result));
+    }
+
     @GetMapping("/doctor/{doctorId}")
     @Operation(summary = "Get doctor availability", description = "Get doctor's availability for a date range")
     public ResponseEntity<ApiResponse<List<AvailabilityDto>>> getDoctorAvailability(
@@ -61,14 +94,85 @@ public class AvailabilityController {
     }
 
     @GetMapping("/slots/{doctorId}")
-    @Operation(summary = "Get available time slots", description = "Get available appointment slots for a doctor on a specific date")
-    public ResponseEntity<ApiResponse<List<AvailabilityDto>>> getAvailableSlots(
+    @Operation(summary = "Get available time slots", description = "Get the bookable slots of a doctor on a specific date, with the places left in each")
+    public ResponseEntity<ApiResponse<List<BookableSlotDto>>> getAvailableSlots(
             @PathVariable UUID doctorId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<AvailabilityDto> slots = availabilityService.getAvailableSlots(doctorId, date);
+        List<BookableSlotDto> slots = slotGridService.getBookableSlots(doctorId, date);
         return ResponseEntity.ok(ApiResponse.success(slots));
     }
 
+    @GetMapping("/grid/{doctorId}")
+    @Operation(summary = "Get slot grid", description = "Get the bookable slots of a doctor for each day of a range, starting today by default")
+    public ResponseEntity<ApiResponse<List<SlotDayDto>>> getSlotGrid(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(ApiResponse.success(slotGridService.getSlotGrid(doctorId, from, days)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream slot changes",
+            description = "Stream the bookable slots of the given doctors over a range of days, starting today by default, "
+                    + "then every slot taken or freed as server-sent events")
+    public SseEmitter streamSlotChanges(
+            @RequestParam List<UUID> doctorIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "7") int days) {
+        return slotStreamService.subscribe(doctorIds, from, days);
+    }
+
+    @GetMapping("/schedule/{doctorId}")
+    @Operation(summary = "Get recurring schedule", description = "Get doctor's active recurring weekly availability")
+    public ResponseEntity<ApiResponse<List<AvailabilityDto>>> getRecurringSchedule(@PathVariable UUID doctorId) {
+        return ResponseEntity.ok(ApiResponse.success(availabilityService.getRecurringSchedule(doctorId)));
+    }
+
+    @GetMapping("/check/{doctorId}")
+    @Operation(summary = "Check doctor availability", description = "Check whether a doctor is available for an appointment at a given time")
+    public ResponseEntity<ApiResponse<Boolean>> checkAvailability(
+            @PathVariable UUID doctorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTime,
+            @RequestParam(defaultValue = "30") int durationMinutes) {
+        return ResponseEntity.ok(ApiResponse.success(
+                availabilityService.isDoctorAvailable(doctorId, dateTime, durationMinutes)));
+    }
+
+    @GetMapping("/earliest")
+    @Operation(summary = "Find earliest available slots",
+            description = "Find the earliest open slots across all approved doctors of a specialization")
+    public ResponseEntity<ApiResponse<List<EarliestSlotDto>>> findEarliestSlots(
+            @RequestParam UUID specializationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) BigDecimal maxFee,
+            @RequestParam(required = false) ConsultationMode consultationMode,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "false") boolean onePerDoctor,
+            @RequestParam(defaultValue = "10") int limit) {
+        EarliestSlotCriteria criteria = EarliestSlotCriteria.builder()
+                .specializationId(specializationId)
+                .from(from)
+                .maxFee(maxFee)
+                .consultationMode(consultationMode)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .onePerDoctor(onePerDoctor)
+                .build();
+        List<EarliestSlotDto> slots = earliestSlotService.findEarliestSlots(criteria, limit);
+        return ResponseEntity.ok(ApiResponse.success(slots));
+    }
+
+    @PostMapping("/free-doctors")
+    @Operation(summary = "Find free doctors",
+            description = "Find which of the given doctors, or of a specialization, have a bookable slot within a time window")
+    public ResponseEntity<ApiResponse<List<FreeDoctorDto>>> findFreeDoctors(
+            @Valid @RequestBody FreeDoctorSearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(freeDoctorSearchService.findFreeDoctors(request)));
+    }
+
     @DeleteMapping("/{availabilityId}")
     @Operation(summary = "Delete availability", description = "Delete doctor's availability slot")
     @PreAuthorize("hasRole('DOCTOR')")
@@ -0,0 +1,27 @@
+package com.docmate.availability.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A concrete slot that can still be booked, with the places left in it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookableSlotDto {
+
+    private UUID doctorId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private int capacity;
+    private int remaining;
+    private SlotSource source;
+    private UUID sourceId; // The recurring rule or the ad-hoc time slot
+}
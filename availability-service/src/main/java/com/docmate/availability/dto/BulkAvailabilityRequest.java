@@ -0,0 +1,37 @@
+package com.docmate.availability.dto;
+
+import com.docmate.common.dto.CreateAvailabilityRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A doctor's whole schedule in one request. A weekly template, when given, replaces every
+ * recurring rule; ad-hoc blocks, when given, replace the open ad-hoc slots from
+ * {@code adhocFrom} to {@code adhocUntil}, which default to the first and last dates listed.
+ * Booked and blocked slots are never changed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAvailabilityRequest {
+
+    @Valid
+    @Size(max = 200, message = "A weekly template can have at most 200 rules")
+    private List<CreateAvailabilityRequest> weekly;
+
+    @Valid
+    @Size(max = 5000, message = "At most 5000 ad-hoc blocks can be set at once")
+    private List<CreateAvailabilityRequest> adhoc;
+
+    private LocalDate adhocFrom;
+
+    private LocalDate adhocUntil;
+}
@@ -0,0 +1,21 @@
+package com.docmate.availability.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAvailabilityResultDto {
+
+    private int recurringInserted;
+    private int recurringUpdated;
+    private int recurringDeleted;
+    private int recurringUnchanged;
+    private int adhocInserted;
+    private int adhocDeleted;
+    private int adhocUnchanged;
+}
@@ -0,0 +1,27 @@
+package com.docmate.availability.dto;
+
+import com.docmate.common.enums.ConsultationMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EarliestSlotCriteria {
+
+    private UUID specializationId;
+    private LocalDateTime from;
+    private BigDecimal maxFee;
+    private ConsultationMode consultationMode;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private boolean onePerDoctor;
+}
@@ -0,0 +1,28 @@
+package com.docmate.availability.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EarliestSlotDto {
+
+    private UUID slotId; // Only for ad-hoc slots
+    private SlotSource source;
+    private UUID doctorId;
+    private String doctorName;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private BigDecimal feePerConsultation;
+    private Double distanceKm; // Only when searching near a location
+}
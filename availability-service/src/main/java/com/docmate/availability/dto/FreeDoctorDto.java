@@ -0,0 +1,22 @@
+package com.docmate.availability.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeDoctorDto {
+
+    private UUID doctorId;
+    private String doctorName;
+    private BigDecimal feePerConsultation;
+    private BookableSlotDto earliestSlot;
+    private int freeSlots; // Bookable slots within the window
+}
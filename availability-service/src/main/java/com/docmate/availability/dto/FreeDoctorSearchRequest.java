@@ -0,0 +1,34 @@
+package com.docmate.availability.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Asks which doctors have a bookable slot within [from, to). Doctors are those listed, those of
+ * the specialization, or those of the specialization among the listed ones when both are given.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeDoctorSearchRequest {
+
+    @Size(max = 500, message = "At most 500 doctors can be searched at once")
+    private List<UUID> doctorIds;
+
+    private UUID specializationId;
+
+    @NotNull(message = "Window start is required")
+    private LocalDateTime from;
+
+    @NotNull(message = "Window end is required")
+    private LocalDateTime to;
+}
@@ -0,0 +1,19 @@
+package com.docmate.availability.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotDayDto {
+
+    private LocalDate date;
+    private List<BookableSlotDto> slots;
+}
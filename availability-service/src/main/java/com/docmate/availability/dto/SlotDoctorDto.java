@@ -0,0 +1,25 @@
+package com.docmate.availability.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * An approved doctor whose open slots take part in an earliest-slot search.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotDoctorDto {
+
+    private UUID doctorId;
+    private String fullName;
+    private BigDecimal feePerConsultation;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+}
@@ -0,0 +1,9 @@
+package com.docmate.availability.dto;
+
+/**
+ * Where a bookable slot comes from.
+ */
+public enum SlotSource {
+    RECURRING,
+    ADHOC
+}
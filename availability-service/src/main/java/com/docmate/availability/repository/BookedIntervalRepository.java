@@ -0,0 +1,17 @@
+package com.docmate.availability.repository;
+
+import com.docmate.availability.slots.BookedInterval;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the appointments occupying doctors' time, which belong to the appointment service.
+ */
+public interface BookedIntervalRepository {
+
+    // Appointments that are not cancelled or completed and start in [from, to), in start order
+    List<BookedInterval> findBookedIntervals(Collection<UUID> doctorIds, LocalDateTime from, LocalDateTime to);
+}
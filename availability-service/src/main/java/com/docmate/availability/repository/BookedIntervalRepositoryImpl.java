@@ -0,0 +1,43 @@
+package com.docmate.availability.repository;
+
+import com.docmate.availability.slots.BookedInterval;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class BookedIntervalRepositoryImpl implements BookedIntervalRepository {
+
+    // Same statuses as the doctor slot exclusion constraint, so holds take their time too
+    private static final String BOOKED_INTERVALS = """
+        SELECT a.doctor_id, a.appointment_date_time, COALESCE(a.duration_minutes, 30)
+        FROM appointments a
+        WHERE a.doctor_id IN (:doctorIds)
+          AND a.status NOT IN ('CANCELLED', 'COMPLETED')
+          AND a.appointment_date_time >= :fromTime AND a.appointment_date_time < :toTime
+        ORDER BY a.appointment_date_time
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookedInterval> findBookedIntervals(Collection<UUID> doctorIds, LocalDateTime from, LocalDateTime to) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(BOOKED_INTERVALS)
+                .setParameter("doctorIds", doctorIds)
+                .setParameter("fromTime", from)
+                .setParameter("toTime", to)
+                .getResultList();
+        return rows.stream().map(BookedIntervalRepositoryImpl::toBookedInterval).toList();
+    }
+
+    private static BookedInterval toBookedInterval(Object[] row) {
+        LocalDateTime start = row[1] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) row[1];
+        return new BookedInterval((UUID) row[0], start, start.plusMinutes(((Number) row[2]).longValue()));
+    }
+}
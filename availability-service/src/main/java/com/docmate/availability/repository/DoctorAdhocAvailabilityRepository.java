@@ -9,11 +9,13 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface DoctorAdhocAvailabilityRepository extends JpaRepository<TimeSlot, UUID> {
+public interface DoctorAdhocAvailabilityRepository extends JpaRepository<TimeSlot, UUID>, SlotDoctorSearchRepository,
+        BookedIntervalRepository {
 
     List<TimeSlot> findByDoctorIdAndStatus(UUID doctorId, SlotStatus status);
 
@@ -33,6 +35,11 @@ public interface DoctorAdhocAvailabilityRepository extends JpaRepository<TimeSlo
 
     List<TimeSlot> findByDoctorIdOrderByStartTime(UUID doctorId);
 
+    @Query("SELECT ts FROM TimeSlot ts WHERE ts.doctorId IN :doctorIds AND ts.startTime >= :fromTime AND ts.startTime < :toTime")
+    List<TimeSlot> findByDoctorIdsStartingBetween(@Param("doctorIds") Collection<UUID> doctorIds,
+                                                  @Param("fromTime") LocalDateTime fromTime,
+                                                  @Param("toTime") LocalDateTime toTime);
+
     @Query("SELECT COUNT(ts) FROM TimeSlot ts WHERE ts.doctorId = :doctorId AND ts.status = :status")
     long countByDoctorIdAndStatus(@Param("doctorId") UUID doctorId, @Param("status") SlotStatus status);
 }
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -37,4 +38,9 @@ public interface DoctorRecurringAvailabilityRepository extends JpaRepository<Doc
     List<DoctorAvailability> findByDoctorIdAndIsRecurringTrue(UUID doctorId);
 
     List<DoctorAvailability> findByDoctorIdAndIsRecurringFalse(UUID doctorId);
+
+    List<DoctorAvailability> findByDoctorIdInAndIsRecurringTrueAndStatus(Collection<UUID> doctorIds, AvailabilityStatus status);
+
+    @Query("SELECT DISTINCT da.doctorId FROM DoctorAvailability da WHERE da.isRecurring = true AND da.status = 'AVAILABLE'")
+    List<UUID> findScheduledDoctorIds();
 }
@@ -0,0 +1,19 @@
+package com.docmate.availability.repository;
+
+import com.docmate.availability.dto.EarliestSlotCriteria;
+import com.docmate.availability.dto.FreeDoctorSearchRequest;
+import com.docmate.availability.dto.SlotDoctorDto;
+
+import java.util.List;
+
+/**
+ * Finds the doctors an earliest-slot or free-doctor search draws from, built from only the filters present in the criteria.
+ */
+public interface SlotDoctorSearchRepository {
+
+    // Approved, active doctors of the criteria's specialization that pass its fee and consultation mode filters
+    List<SlotDoctorDto> findSlotDoctors(EarliestSlotCriteria criteria);
+
+    // Approved, active doctors among the request's doctors and of its specialization, whichever are given
+    List<SlotDoctorDto> findSlotDoctors(FreeDoctorSearchRequest request);
+}
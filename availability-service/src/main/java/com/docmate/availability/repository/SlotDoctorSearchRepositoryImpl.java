@@ -0,0 +1,68 @@
+package com.docmate.availability.repository;
+
+import com.docmate.availability.dto.EarliestSlotCriteria;
+import com.docmate.availability.dto.FreeDoctorSearchRequest;
+import com.docmate.availability.dto.SlotDoctorDto;
+import com.docmate.common.enums.ConsultationMode;
+import com.docmate.common.query.QueryFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class SlotDoctorSearchRepositoryImpl implements SlotDoctorSearchRepository {
+
+    private static final String SLOT_DOCTORS = """
+        SELECT d.id, u.full_name, d.fee_per_consultation, a.latitude, a.longitude
+        FROM doctors d
+        JOIN users u ON u.id = d.id
+        LEFT JOIN addresses a ON a.id = d.primary_address_id
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SlotDoctorDto> findSlotDoctors(EarliestSlotCriteria criteria) {
+        ConsultationMode mode = criteria.getConsultationMode();
+        QueryFilter filter = QueryFilter.create()
+                .and("d.is_approved = true")
+                .and("d.is_active = true")
+                .and("d.specialization_id = :specializationId", "specializationId", criteria.getSpecializationId())
+                .andIfPresent("d.fee_per_consultation <= :maxFee", "maxFee", criteria.getMaxFee())
+                .andIf(mode == ConsultationMode.VIDEO, "d.video_consultation_enabled = true")
+                .andIf(mode == ConsultationMode.TELE, "d.tele_consultation_enabled = true")
+                // An in-person visit needs somewhere to go
+                .andIf(mode == ConsultationMode.OFFLINE, "d.primary_address_id IS NOT NULL");
+
+        return find(filter);
+    }
+
+    @Override
+    public List<SlotDoctorDto> findSlotDoctors(FreeDoctorSearchRequest request) {
+        QueryFilter filter = QueryFilter.create()
+                .and("d.is_approved = true")
+                .and("d.is_active = true")
+                .andIfPresent("d.id IN (:doctorIds)", "doctorIds", request.getDoctorIds())
+                .andIfPresent("d.specialization_id = :specializationId", "specializationId", request.getSpecializationId());
+        return find(filter);
+    }
+
+    private List<SlotDoctorDto> find(QueryFilter filter) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = filter.bind(entityManager.createNativeQuery(SLOT_DOCTORS + filter.toWhereClause()))
+                .getResultList();
+        return rows.stream().map(SlotDoctorSearchRepositoryImpl::toSlotDoctor).toList();
+    }
+
+    private static SlotDoctorDto toSlotDoctor(Object[] row) {
+        return new SlotDoctorDto(
+                (UUID) row[0],
+                (String) row[1],
+                (BigDecimal) row[2],
+                (BigDecimal) row[3],
+                (BigDecimal) row[4]);
+    }
+}
@@ -4,6 +4,7 @@ import com.docmate.common.dto.AvailabilityDto;
 import com.docmate.common.dto.CreateAvailabilityRequest;
 import com.docmate.availability.repository.DoctorRecurringAvailabilityRepository;
 import com.docmate.availability.repository.DoctorAdhocAvailabilityRepository;
+import com.docmate.availability.slots.AvailabilityIndex;
 import com.docmate.common.entity.DoctorAvailability;
 import com.docmate.common.entity.TimeSlot;
 import com.docmate.common.enums.AvailabilityStatus;
@@ -12,11 +13,11 @@ import com.docmate.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -30,6 +31,7 @@ public class AvailabilityService {
 
     private final DoctorRecurringAvailabilityRepository recurringRepository;
     private final DoctorAdhocAvailabilityRepository adhocRepository;
+    private final AvailabilityIndex availabilityIndex;
 
     public AvailabilityDto setRecurringAvailability(CreateAvailabilityRequest request, UUID doctorId) {
         log.info("Setting recurring availability for doctor: {}", doctorId);
@@ -46,6 +48,12 @@ public class AvailabilityService {
                 .isRecurring(true)
                 .status(AvailabilityStatus.AVAILABLE)
                 .build();
+        if (request.getSlotDurationMinutes() != null) {
+            availability.setSlotDurationMinutes(request.getSlotDurationMinutes());
+        }
+        if (request.getCapacity() != null) {
+            availability.setCapacity(request.getCapacity());
+        }
 
         availability = recurringRepository.save(availability);
 
@@ -107,36 +115,18 @@ public class AvailabilityService {
         return availability;
     }
 
-    public boolean isDoctorAvailable(UUID doctorId, LocalDateTime appointmentDateTime, Integer durationMinutes) {
-        LocalDate date = appointmentDateTime.toLocalDate();
-        LocalTime time = appointmentDateTime.toLocalTime();
-
-        // Check recurring availability
-        List<DoctorAvailability> recurringAvailability = recurringRepository.findByDoctorIdAndIsRecurringTrue(doctorId);
-        for (DoctorAvailability availability : recurringAvailability) {
-            if (availability.getDayOfWeek().name().equals(date.getDayOfWeek().name()) &&
-                !time.isBefore(availability.getStartTime()) &&
-                !time.plusMinutes(durationMinutes).isAfter(availability.getEndTime())) {
-                return true;
-            }
-        }
-
-        // Check adhoc availability
-        List<TimeSlot> adhocSlots = adhocRepository.findByDoctorIdAndDateAndStatus(doctorId, date, SlotStatus.AVAILABLE);
-        for (TimeSlot slot : adhocSlots) {
-            LocalTime slotStart = slot.getStartTime().toLocalTime();
-            LocalTime slotEnd = slot.getEndTime().toLocalTime();
-            if (!time.isBefore(slotStart) && !time.plusMinutes(durationMinutes).isAfter(slotEnd)) {
-                return true;
-            }
-        }
-
-        return false;
+    @Transactional(readOnly = true)
+    public List<AvailabilityDto> getRecurringSchedule(UUID doctorId) {
+        return recurringRepository.findByDoctorIdAndIsRecurringTrue(doctorId).stream()
+                .filter(availability -> availability.getStatus() == AvailabilityStatus.AVAILABLE)
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
     }
 
-    public List<AvailabilityDto> getAvailableSlots(UUID doctorId, LocalDate date) {
-        log.info("Fetching available slots for doctor: {} on date: {}", doctorId, date);
-        return getDoctorAvailabilityByDay(doctorId, date);
+    // Answered from the index without a transaction, so a check normally takes no connection
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isDoctorAvailable(UUID doctorId, LocalDateTime appointmentDateTime, Integer durationMinutes) {
+        return availabilityIndex.isOpen(doctorId, appointmentDateTime, durationMinutes);
     }
 
     public void deleteAvailability(UUID availabilityId, UUID doctorId) {
@@ -181,6 +171,7 @@ public class AvailabilityService {
                 .startTime(availability.getStartTime())
                 .endTime(availability.getEndTime())
                 .capacity(availability.getCapacity())
+                .slotDurationMinutes(availability.getSlotDurationMinutes())
                 .isActive(availability.getStatus() == AvailabilityStatus.AVAILABLE)
                 .isRecurring(availability.getIsRecurring())
                 .createdDate(availability.getCreatedDate())
@@ -0,0 +1,233 @@
+package com.docmate.availability.service;
+
+import com.docmate.availability.dto.BulkAvailabilityRequest;
+import com.docmate.availability.dto.BulkAvailabilityResultDto;
+import com.docmate.availability.repository.DoctorAdhocAvailabilityRepository;
+import com.docmate.availability.repository.DoctorRecurringAvailabilityRepository;
+import com.docmate.common.dto.CreateAvailabilityRequest;
+import com.docmate.common.entity.DoctorAvailability;
+import com.docmate.common.entity.TimeSlot;
+import com.docmate.common.enums.AvailabilityStatus;
+import com.docmate.common.enums.DayOfWeek;
+import com.docmate.common.enums.SlotStatus;
+import com.docmate.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces a doctor's weekly template and ad-hoc slots in one transaction.
+ * <p>
+ * The request is checked for overlaps in memory, then compared with the rows it replaces, which
+ * are read with one statement each. Only the differences are written: rules and slots are matched
+ * on their times, so an unchanged schedule writes nothing. Inserts and updates go out as JDBC
+ * batches and deletes as one statement per table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BulkAvailabilityService {
+
+    private static final long MAX_ADHOC_DAYS = 366;
+
+    private final DoctorRecurringAvailabilityRepository recurringRepository;
+    private final DoctorAdhocAvailabilityRepository adhocRepository;
+
+    public BulkAvailabilityResultDto applySchedule(BulkAvailabilityRequest request, UUID doctorId) {
+        if (request.getWeekly() == null && request.getAdhoc() == null) {
+            throw new BusinessException("INVALID_REQUEST", "A weekly template or ad-hoc blocks are required", 400);
+        }
+        BulkAvailabilityResultDto result = new BulkAvailabilityResultDto();
+        if (request.getWeekly() != null) {
+            applyWeekly(request.getWeekly(), doctorId, result);
+        }
+        if (request.getAdhoc() != null) {
+            applyAdhoc(request, doctorId, result);
+        }
+        log.info("Applied schedule for doctor {}: {}", doctorId, result);
+        return result;
+    }
+
+    private void applyWeekly(List<CreateAvailabilityRequest> weekly, UUID doctorId, BulkAvailabilityResultDto result) {
+        for (CreateAvailabilityRequest rule : weekly) {
+            if (rule.getDayOfWeek() == null) {
+                throw new BusinessException("INVALID_REQUEST", "Day of week is required for every weekly rule", 400);
+            }
+            checkTimes(rule);
+        }
+        Map<DayOfWeek, List<CreateAvailabilityRequest>> byDay = weekly.stream()
+                .collect(Collectors.groupingBy(CreateAvailabilityRequest::getDayOfWeek));
+        byDay.values().forEach(rules -> checkOverlaps(rules, CreateAvailabilityRequest::getStartTime,
+                CreateAvailabilityRequest::getEndTime));
+
+        Map<List<Object>, DoctorAvailability> existing = new HashMap<>();
+        List<DoctorAvailability> deleted = new ArrayList<>();
+        for (DoctorAvailability rule : recurringRepository.findByDoctorIdAndIsRecurringTrue(doctorId)) {
+            // Duplicates left by single-rule setup collapse into one
+            if (existing.putIfAbsent(ruleKey(rule.getDayOfWeek(), rule.getStartTime(), rule.getEndTime()), rule) != null) {
+                deleted.add(rule);
+            }
+        }
+
+        List<DoctorAvailability> inserted = new ArrayList<>();
+        for (CreateAvailabilityRequest request : weekly) {
+            DoctorAvailability rule = existing.remove(ruleKey(request.getDayOfWeek(), request.getStartTime(), request.getEndTime()));
+            if (rule == null) {
+                inserted.add(newRule(request, doctorId));
+            } else if (update(rule, request)) {
+                result.setRecurringUpdated(result.getRecurringUpdated() + 1);
+            } else {
+                result.setRecurringUnchanged(result.getRecurringUnchanged() + 1);
+            }
+        }
+        deleted.addAll(existing.values());
+
+        recurringRepository.deleteAllInBatch(deleted);
+        recurringRepository.saveAll(inserted);
+        result.setRecurringInserted(inserted.size());
+        result.setRecurringDeleted(deleted.size());
+    }
+
+    private void applyAdhoc(BulkAvailabilityRequest request, UUID doctorId, BulkAvailabilityResultDto result) {
+        List<CreateAvailabilityRequest> adhoc = request.getAdhoc();
+        for (CreateAvailabilityRequest block : adhoc) {
+            if (block.getDate() == null) {
+                throw new BusinessException("INVALID_REQUEST", "Date is required for every ad-hoc block", 400);
+            }
+            checkTimes(block);
+        }
+        LocalDate from = request.getAdhocFrom() != null ? request.getAdhocFrom()
+                : adhoc.stream().map(CreateAvailabilityRequest::getDate).min(Comparator.naturalOrder()).orElse(null);
+        LocalDate until = request.getAdhocUntil() != null ? request.getAdhocUntil()
+                : adhoc.stream().map(CreateAvailabilityRequest::getDate).max(Comparator.naturalOrder()).orElse(null);
+        if (from == null || until == null) {
+            throw new BusinessException("INVALID_RANGE", "An ad-hoc range is required to clear ad-hoc slots", 400);
+        }
+        if (until.isBefore(from) || ChronoUnit.DAYS.between(from, until) >= MAX_ADHOC_DAYS) {
+            throw new BusinessException("INVALID_RANGE", "Ad-hoc range must be between 1 and " + MAX_ADHOC_DAYS + " days", 400);
+        }
+        if (adhoc.stream().anyMatch(block -> block.getDate().isBefore(from) || block.getDate().isAfter(until))) {
+            throw new BusinessException("INVALID_RANGE", "Ad-hoc blocks must fall within the ad-hoc range", 400);
+        }
+
+        List<TimeSlot> requested = adhoc.stream()
+                .map(block -> TimeSlot.builder()
+                        .doctorId(doctorId)
+                        .startTime(block.getDate().atTime(block.getStartTime()))
+                        .endTime(block.getDate().atTime(block.getEndTime()))
+                        .status(SlotStatus.AVAILABLE)
+                        .build())
+                .toList();
+
+        Map<List<LocalDateTime>, TimeSlot> open = new HashMap<>();
+        List<TimeSlot> kept = new ArrayList<>(requested);
+        List<TimeSlot> deleted = new ArrayList<>();
+        for (TimeSlot slot : adhocRepository.findByDoctorIdsStartingBetween(
+                List.of(doctorId), from.atStartOfDay(), until.plusDays(1).atStartOfDay())) {
+            switch (slot.getStatus()) {
+                case AVAILABLE -> {
+                    if (open.putIfAbsent(List.of(slot.getStartTime(), slot.getEndTime()), slot) != null) {
+                        deleted.add(slot);
+                    }
+                }
+                // A requested block must not overlap a booked or blocked slot, which stays as it is
+                case BOOKED, BLOCKED -> kept.add(slot);
+                default -> {
+                }
+            }
+        }
+        checkOverlaps(kept, TimeSlot::getStartTime, TimeSlot::getEndTime);
+
+        List<TimeSlot> inserted = new ArrayList<>();
+        for (TimeSlot slot : requested) {
+            if (open.remove(List.of(slot.getStartTime(), slot.getEndTime())) == null) {
+                inserted.add(slot);
+            } else {
+                result.setAdhocUnchanged(result.getAdhocUnchanged() + 1);
+            }
+        }
+        deleted.addAll(open.values());
+
+        adhocRepository.deleteAllInBatch(deleted);
+        adhocRepository.saveAll(inserted);
+        result.setAdhocInserted(inserted.size());
+        result.setAdhocDeleted(deleted.size());
+    }
+
+    private static void checkTimes(CreateAvailabilityRequest request) {
+        if (!request.getEndTime().isAfter(request.getStartTime())) {
+            throw new BusinessException("INVALID_RANGE", "End time must be after start time", 400);
+        }
+    }
+
+    // Sorted by start, intervals overlap only if one starts before the previous one ends
+    private static <T, C extends Comparable<? super C>> void checkOverlaps(List<T> intervals, Function<T, C> start, Function<T, C> end) {
+        List<T> sorted = intervals.stream().sorted(Comparator.comparing(start)).toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            T previous = sorted.get(i - 1);
+            T current = sorted.get(i);
+            if (start.apply(current).compareTo(end.apply(previous)) < 0) {
+                throw new BusinessException("OVERLAPPING_AVAILABILITY",
+                        "Availability from " + start.apply(current) + " overlaps availability from " + start.apply(previous), 400);
+            }
+        }
+    }
+
+    private static List<Object> ruleKey(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        return List.of(dayOfWeek, startTime, endTime);
+    }
+
+    private static DoctorAvailability newRule(CreateAvailabilityRequest request, UUID doctorId) {
+        DoctorAvailability rule = DoctorAvailability.builder()
+                .doctorId(doctorId)
+                .dayOfWeek(request.getDayOfWeek())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .isRecurring(true)
+                .status(AvailabilityStatus.AVAILABLE)
+                .build();
+        update(rule, request);
+        return rule;
+    }
+
+    // Changes the managed rule only where it differs, so an unchanged rule is not written
+    private static boolean update(DoctorAvailability rule, CreateAvailabilityRequest request) {
+        int capacity = request.getCapacity() != null ? request.getCapacity() : 1;
+        int slotDuration = request.getSlotDurationMinutes() != null ? request.getSlotDurationMinutes() : 30;
+        boolean changed = false;
+        if (!Objects.equals(rule.getCapacity(), capacity)) {
+            rule.setCapacity(capacity);
+            changed = true;
+        }
+        if (!Objects.equals(rule.getSlotDurationMinutes(), slotDuration)) {
+            rule.setSlotDurationMinutes(slotDuration);
+            changed = true;
+        }
+        if (rule.getStatus() != AvailabilityStatus.AVAILABLE) {
+            rule.setStatus(AvailabilityStatus.AVAILABLE);
+            changed = true;
+        }
+        if (rule.getEffectiveFrom() != null || rule.getEffectiveUntil() != null) {
+            rule.setEffectiveFrom(null);
+            rule.setEffectiveUntil(null);
+            changed = true;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,190 @@
+package com.docmate.availability.service;
+
+import com.docmate.availability.dto.EarliestSlotCriteria;
+import com.docmate.availability.dto.EarliestSlotDto;
+import com.docmate.availability.dto.SlotDoctorDto;
+import com.docmate.availability.dto.SlotSource;
+import com.docmate.availability.repository.DoctorAdhocAvailabilityRepository;
+import com.docmate.availability.slots.BookableSlot;
+import com.docmate.availability.slots.SlotGridCache;
+import com.docmate.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Finds the earliest bookable slots across every approved doctor of a specialization.
+ * <p>
+ * Slots come from {@link SlotGridCache}, so recurring and ad-hoc slots are both found and booked
+ * ones are not. The search reads a week of all doctors at a time, up to the slot horizon, and
+ * stops at the first week that completes the result, since later weeks only hold later slots.
+ * Within a week each doctor's slots form one run in start order; the runs are k-way merged
+ * through a priority queue holding one cursor per doctor, so taking the next slot costs one
+ * queue operation however many doctors there are.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EarliestSlotService {
+
+    private static final int MAX_RESULTS = 50;
+    private static final int SEARCH_DAYS = 7;
+    private static final double MAX_RADIUS_KM = 200.0;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final Comparator<SlotCursor> EARLIEST_FIRST = Comparator
+            .comparing((SlotCursor cursor) -> cursor.current().start())
+            .thenComparing(cursor -> cursor.doctorId);
+
+    private final DoctorAdhocAvailabilityRepository adhocRepository;
+    private final SlotGridCache slotGridCache;
+
+    @Value("${app.slots.horizon-days:90}")
+    private int horizonDays;
+
+    public List<EarliestSlotDto> findEarliestSlots(EarliestSlotCriteria criteria, int limit) {
+        validate(criteria);
+        int n = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        LocalDateTime from = criteria.getFrom() != null && criteria.getFrom().isAfter(LocalDateTime.now())
+                ? criteria.getFrom()
+                : LocalDateTime.now();
+
+        Map<UUID, SlotDoctorDto> doctors = new HashMap<>();
+        Map<UUID, Double> distances = new HashMap<>();
+        boolean nearby = criteria.getLatitude() != null;
+        for (SlotDoctorDto doctor : adhocRepository.findSlotDoctors(criteria)) {
+            if (nearby) {
+                if (doctor.getLatitude() == null || doctor.getLongitude() == null) {
+                    continue;
+                }
+                double distance = distanceKm(criteria.getLatitude(), criteria.getLongitude(),
+                        doctor.getLatitude().doubleValue(), doctor.getLongitude().doubleValue());
+                if (criteria.getRadiusKm() != null && distance > criteria.getRadiusKm()) {
+                    continue;
+                }
+                distances.put(doctor.getDoctorId(), distance);
+            }
+            doctors.put(doctor.getDoctorId(), doctor);
+        }
+        if (doctors.isEmpty()) {
+            return List.of();
+        }
+
+        int perDoctor = criteria.isOnePerDoctor() ? 1 : n;
+        Map<UUID, Integer> found = new HashMap<>();
+        Set<UUID> searching = new HashSet<>(doctors.keySet());
+        List<EarliestSlotDto> earliest = new ArrayList<>(n);
+        LocalDate horizon = LocalDate.now().plusDays(horizonDays);
+        for (LocalDate start = from.toLocalDate(); earliest.size() < n && !searching.isEmpty() && start.isBefore(horizon);
+             start = start.plusDays(SEARCH_DAYS)) {
+            LocalDate end = start.plusDays(SEARCH_DAYS).isBefore(horizon) ? start.plusDays(SEARCH_DAYS) : horizon;
+            Map<UUID, Map<LocalDate, List<BookableSlot>>> grids = slotGridCache.getDays(searching, start, end);
+
+            PriorityQueue<SlotCursor> queue = new PriorityQueue<>(EARLIEST_FIRST);
+            for (Map.Entry<UUID, Map<LocalDate, List<BookableSlot>>> grid : grids.entrySet()) {
+                List<BookableSlot> run = new ArrayList<>();
+                for (LocalDate day = start; day.isBefore(end); day = day.plusDays(1)) {
+                    for (BookableSlot slot : grid.getValue().get(day)) {
+                        if (!slot.start().isBefore(from)) {
+                            run.add(slot);
+                        }
+                    }
+                }
+                if (!run.isEmpty()) {
+                    queue.add(new SlotCursor(grid.getKey(), run));
+                }
+            }
+            while (earliest.size() < n && !queue.isEmpty()) {
+                SlotCursor cursor = queue.poll();
+                UUID doctorId = cursor.doctorId;
+                earliest.add(toDto(doctorId, cursor.current(), doctors.get(doctorId), distances.get(doctorId)));
+                if (found.merge(doctorId, 1, Integer::sum) < perDoctor && cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            searching.removeIf(doctorId -> found.getOrDefault(doctorId, 0) >= perDoctor);
+        }
+
+        log.info("Found {} earliest slots among {} doctors of specialization {}",
+                earliest.size(), doctors.size(), criteria.getSpecializationId());
+        return earliest;
+    }
+
+    private static void validate(EarliestSlotCriteria criteria) {
+        if (criteria.getSpecializationId() == null) {
+            throw new BusinessException("INVALID_REQUEST", "Specialization is required", 400);
+        }
+        Double latitude = criteria.getLatitude();
+        Double longitude = criteria.getLongitude();
+        if ((latitude == null) != (longitude == null)) {
+            throw new BusinessException("INVALID_LOCATION", "Latitude and longitude must be given together", 400);
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new BusinessException("INVALID_LOCATION", "Latitude must be within [-90, 90] and longitude within [-180, 180]", 400);
+        }
+        Double radiusKm = criteria.getRadiusKm();
+        if (radiusKm != null && latitude == null) {
+            throw new BusinessException("INVALID_LOCATION", "A radius needs a latitude and longitude", 400);
+        }
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM)) {
+            throw new BusinessException("INVALID_RADIUS", "Radius must be between 0 and " + MAX_RADIUS_KM + " km", 400);
+        }
+    }
+
+    private static EarliestSlotDto toDto(UUID doctorId, BookableSlot slot, SlotDoctorDto doctor, Double distanceKm) {
+        return EarliestSlotDto.builder()
+                .slotId(slot.source() == SlotSource.ADHOC ? slot.sourceId() : null)
+                .source(slot.source())
+                .doctorId(doctorId)
+                .doctorName(doctor.getFullName())
+                .startTime(slot.start())
+                .endTime(slot.end())
+                .feePerConsultation(doctor.getFeePerConsultation())
+                .distanceKm(distanceKm)
+                .build();
+    }
+
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static final class SlotCursor {
+
+        private final UUID doctorId;
+        private final List<BookableSlot> run;
+        private int position;
+
+        SlotCursor(UUID doctorId, List<BookableSlot> run) {
+            this.doctorId = doctorId;
+            this.run = run;
+        }
+
+        BookableSlot current() {
+            return run.get(position);
+        }
+
+        boolean advance() {
+            return ++position < run.size();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.docmate.availability.service;
+
+import com.docmate.availability.dto.FreeDoctorDto;
+import com.docmate.availability.dto.FreeDoctorSearchRequest;
+import com.docmate.availability.dto.SlotDoctorDto;
+import com.docmate.availability.repository.DoctorAdhocAvailabilityRepository;
+import com.docmate.availability.slots.BookableSlot;
+import com.docmate.availability.slots.SlotGridCache;
+import com.docmate.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Finds which of many doctors have a bookable slot within a time window, with each one's earliest
+ * such slot.
+ * <p>
+ * The doctors are resolved with one statement and their slots for the days the window touches
+ * come from {@link SlotGridCache} in one call, which loads any missing days of all of them
+ * together. Each doctor's day lists are then scanned once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FreeDoctorSearchService {
+
+    private static final Duration MAX_WINDOW = Duration.ofDays(31);
+
+    private static final Comparator<FreeDoctorDto> EARLIEST_FIRST = Comparator
+            .comparing((FreeDoctorDto doctor) -> doctor.getEarliestSlot().getStartTime())
+            .thenComparing(FreeDoctorDto::getDoctorId);
+
+    private final DoctorAdhocAvailabilityRepository adhocRepository;
+    private final SlotGridCache slotGridCache;
+
+    public List<FreeDoctorDto> findFreeDoctors(FreeDoctorSearchRequest request) {
+        validate(request);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = request.getFrom().isAfter(now) ? request.getFrom() : now;
+        LocalDateTime to = request.getTo();
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+
+        Map<UUID, SlotDoctorDto> doctors = adhocRepository.findSlotDoctors(request).stream()
+                .collect(Collectors.toMap(SlotDoctorDto::getDoctorId, Function.identity()));
+        if (doctors.isEmpty()) {
+            return List.of();
+        }
+
+        // The window end is exclusive, so a window ending at midnight does not reach into the next day
+        LocalDate lastDay = to.minusNanos(1).toLocalDate();
+        Map<UUID, Map<LocalDate, List<BookableSlot>>> grids =
+                slotGridCache.getDays(doctors.keySet(), from.toLocalDate(), lastDay.plusDays(1));
+
+        List<FreeDoctorDto> free = new ArrayList<>();
+        grids.forEach((doctorId, days) -> {
+            BookableSlot earliest = null;
+            int count = 0;
+            for (LocalDate day = from.toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+                for (BookableSlot slot : days.get(day)) {
+                    if (!slot.start().isBefore(from) && !slot.end().isAfter(to)) {
+                        if (earliest == null) {
+                            earliest = slot;
+                        }
+                        count++;
+                    }
+                }
+            }
+            if (earliest != null) {
+                free.add(toDto(doctors.get(doctorId), earliest, count));
+            }
+        });
+        free.sort(EARLIEST_FIRST);
+
+        log.info("Found {} of {} doctors free between {} and {}", free.size(), doctors.size(), from, to);
+        return free;
+    }
+
+    private static void validate(FreeDoctorSearchRequest request) {
+        boolean hasDoctors = request.getDoctorIds() != null && !request.getDoctorIds().isEmpty();
+        if (!hasDoctors && request.getSpecializationId() == null) {
+            throw new BusinessException("INVALID_REQUEST", "Doctor IDs or a specialization are required", 400);
+        }
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new BusinessException("INVALID_RANGE", "Window start must be before window end", 400);
+        }
+        if (Duration.between(request.getFrom(), request.getTo()).compareTo(MAX_WINDOW) > 0) {
+            throw new BusinessException("INVALID_RANGE", "Window must not be longer than " + MAX_WINDOW.toDays() + " days", 400);
+        }
+    }
+
+    private static FreeDoctorDto toDto(SlotDoctorDto doctor, BookableSlot slot, int freeSlots) {
+        return FreeDoctorDto.builder()
+                .doctorId(doctor.getDoctorId())
+                .doctorName(doctor.getFullName())
+                .feePerConsultation(doctor.getFeePerConsultation())
+                .earliestSlot(SlotGridService.toDto(doctor.getDoctorId(), slot))
+                .freeSlots(freeSlots)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.docmate.availability.service;
+
+import com.docmate.availability.dto.BookableSlotDto;
+import com.docmate.availability.dto.SlotDayDto;
+import com.docmate.availability.slots.BookableSlot;
+import com.docmate.availability.slots.SlotGridCache;
+import com.docmate.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serves the concrete slots patients can book, as materialized by {@link SlotGridCache}.
+ * Slots that have already started are left out.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SlotGridService {
+
+    private static final int MAX_GRID_DAYS = 62;
+
+    private final SlotGridCache slotGridCache;
+
+    public List<BookableSlotDto> getBookableSlots(UUID doctorId, LocalDate date) {
+        return getSlotGrid(doctorId, date, 1).get(0).getSlots();
+    }
+
+    public List<SlotDayDto> getSlotGrid(UUID doctorId, LocalDate from, int days) {
+        if (days < 1 || days > MAX_GRID_DAYS) {
+            throw new BusinessException("INVALID_RANGE", "Days must be between 1 and " + MAX_GRID_DAYS, 400);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate start = from != null ? from : now.toLocalDate();
+        Map<LocalDate, List<BookableSlot>> grid = slotGridCache.getDays(doctorId, start, start.plusDays(days));
+
+        List<SlotDayDto> result = new ArrayList<>(days);
+        for (LocalDate day = start; day.isBefore(start.plusDays(days)); day = day.plusDays(1)) {
+            List<BookableSlotDto> slots = grid.get(day).stream()
+                    .filter(slot -> slot.start().isAfter(now))
+                    .map(slot -> toDto(doctorId, slot))
+                    .toList();
+            result.add(SlotDayDto.builder().date(day).slots(slots).build());
+        }
+        return result;
+    }
+
+    static BookableSlotDto toDto(UUID doctorId, BookableSlot slot) {
+        return BookableSlotDto.builder()
+                .doctorId(doctorId)
+                .startTime(slot.start())
+                .endTime(slot.end())
+                .capacity(slot.capacity())
+                .remaining(slot.remaining())
+                .source(slot.source())
+                .sourceId(slot.sourceId())
+                .build();
+    }
+}
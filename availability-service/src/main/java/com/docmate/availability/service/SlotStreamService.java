@@ -0,0 +1,372 @@
+package com.docmate.availability.service;
+
+import com.docmate.availability.dto.BookableSlotDto;
+import com.docmate.availability.slots.BookableSlot;
+import com.docmate.availability.slots.DaySchedule;
+import com.docmate.availability.slots.ScheduleReader;
+import com.docmate.availability.slots.SlotChangeListener;
+import com.docmate.availability.slots.SlotChangeSubscriber;
+import com.docmate.availability.slots.SlotGridCache;
+import com.docmate.availability.slots.SlotMaterializer;
+import com.docmate.common.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams changes to doctors' bookable slots to clients over server-sent events.
+ * <p>
+ * A client names the doctors and days it shows and first receives their slots as a
+ * {@code snapshot} event. After that it receives a {@code slot-taken} event whenever a slot loses
+ * places, with {@code remaining} at zero once it is full or gone. It receives a
+ * {@code slot-freed} event whenever a slot gains places or opens.
+ * <p>
+ * Changes come from {@link SlotChangeListener}, so bookings made through any service and edits
+ * to rules and ad-hoc slots are all seen. They are collected as they arrive and sent on the next
+ * flush. For each changed day of a watched doctor, the day is materialized again with one read
+ * for all of them and compared with the last state sent. Every client watching a doctor sees
+ * the same state of each day, so deltas are computed once and fanned out.
+ * <p>
+ * Events are only queued while the lock is held. Each client has a bounded queue that a small
+ * pool of sender threads drains, so a slow client holds up neither the flush nor other clients;
+ * a client whose queue fills up is dropped and reconnects for a new snapshot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotStreamService implements SlotChangeSubscriber {
+
+    private static final int MAX_DOCTORS = 50;
+    private static final int MAX_DAYS = 31;
+
+    private final ScheduleReader scheduleReader;
+    private final SlotGridCache slotGridCache;
+
+    @Value("${app.slots.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.slots.stream.queue-size:256}")
+    private int queueSize;
+
+    @Value("${app.slots.stream.sender-threads:4}")
+    private int senderThreads;
+
+    private ExecutorService senders;
+
+    private final Object lock = new Object();
+    // Guarded by lock
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    // Last state sent of each watched doctor's watched days; guarded by lock
+    private final Map<UUID, Map<LocalDate, List<BookableSlot>>> sent = new HashMap<>();
+
+    private final Set<UUID> watched = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<LocalDate>> dirtyDays = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyDoctors = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger count = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "slot-stream-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Collection<UUID> doctorIds, LocalDate from, int days) {
+        Set<UUID> doctors = Set.copyOf(doctorIds);
+        if (doctors.isEmpty() || doctors.size() > MAX_DOCTORS) {
+            throw new BusinessException("INVALID_REQUEST", "Between 1 and " + MAX_DOCTORS + " doctors can be watched", 400);
+        }
+        if (days < 1 || days > MAX_DAYS) {
+            throw new BusinessException("INVALID_RANGE", "Days must be between 1 and " + MAX_DAYS, 400);
+        }
+        LocalDate start = from != null ? from : LocalDate.now();
+        Subscription subscription = new Subscription(new SseEmitter(timeoutMs), doctors, start, start.plusDays(days), queueSize);
+        subscription.emitter.onCompletion(() -> unsubscribe(subscription));
+        subscription.emitter.onTimeout(subscription.emitter::complete);
+        subscription.emitter.onError(e -> unsubscribe(subscription));
+
+        Map<UUID, Map<LocalDate, List<BookableSlot>>> loaded =
+                slotGridCache.getDays(doctors, subscription.from, subscription.to);
+        synchronized (lock) {
+            List<BookableSlotDto> snapshot = new ArrayList<>();
+            for (UUID doctorId : doctors) {
+                Map<LocalDate, List<BookableSlot>> doctorDays = sent.computeIfAbsent(doctorId, id -> new HashMap<>());
+                loaded.get(doctorId).forEach(doctorDays::putIfAbsent);
+                for (LocalDate day = subscription.from; day.isBefore(subscription.to); day = day.plusDays(1)) {
+                    doctorDays.get(day).forEach(slot -> snapshot.add(SlotGridService.toDto(doctorId, slot)));
+                }
+                watched.add(doctorId);
+            }
+            subscriptions.add(subscription);
+            // Empty yet, so the snapshot always fits and goes out before any change
+            subscription.queue(SseEmitter.event().name("snapshot").data(snapshot));
+        }
+        schedule(subscription);
+        // A change landing before the doctors were watched was not collected, so their days are
+        // compared again on the next flush
+        dirtyDoctors.addAll(doctors);
+        return subscription.emitter;
+    }
+
+    @Override
+    public void changed(UUID doctorId, LocalDate date) {
+        if (!watched.contains(doctorId)) {
+            return;
+        }
+        if (date == null) {
+            dirtyDoctors.add(doctorId);
+        } else {
+            dirtyDays.compute(doctorId, (id, dates) -> {
+                Set<LocalDate> collected = dates != null ? dates : new HashSet<>();
+                collected.add(date);
+                return collected;
+            });
+        }
+    }
+
+    // Changes may have been missed while the listener was down, so every watched day is compared again
+    @Override
+    public void enable() {
+        dirtyDoctors.addAll(watched);
+    }
+
+    @Override
+    public void disable() {
+    }
+
+    @Scheduled(fixedDelayString = "${app.slots.stream.flush-interval-ms:250}")
+    public void flush() {
+        Map<UUID, Set<LocalDate>> changedDays = drainDirty();
+        if (changedDays.isEmpty()) {
+            return;
+        }
+        LocalDate first = changedDays.values().stream().flatMap(Set::stream).min(LocalDate::compareTo).orElseThrow();
+        LocalDate last = changedDays.values().stream().flatMap(Set::stream).max(LocalDate::compareTo).orElseThrow();
+        Map<UUID, Map<LocalDate, DaySchedule>> schedules = scheduleReader.read(changedDays.keySet(), first, last.plusDays(1));
+
+        Set<Subscription> notified = new HashSet<>();
+        Set<Subscription> slow = new HashSet<>();
+        synchronized (lock) {
+            changedDays.forEach((doctorId, days) -> days.forEach(day -> {
+                Map<LocalDate, List<BookableSlot>> doctorDays = sent.get(doctorId);
+                // Dropped meanwhile, with its last watcher
+                if (doctorDays == null || !doctorDays.containsKey(day)) {
+                    return;
+                }
+                List<BookableSlot> slots = SlotMaterializer.materialize(day, schedules.get(doctorId).get(day));
+                List<BookableSlot> taken = new ArrayList<>();
+                List<BookableSlot> freed = new ArrayList<>();
+                diff(doctorDays.put(day, slots), slots, taken, freed);
+                if (taken.isEmpty() && freed.isEmpty()) {
+                    return;
+                }
+                for (Subscription subscription : subscriptions) {
+                    if (subscription.watches(doctorId, day) && !slow.contains(subscription)) {
+                        boolean queued = true;
+                        for (BookableSlot slot : taken) {
+                            queued &= subscription.queue(SseEmitter.event().name("slot-taken").data(SlotGridService.toDto(doctorId, slot)));
+                        }
+                        for (BookableSlot slot : freed) {
+                            queued &= subscription.queue(SseEmitter.event().name("slot-freed").data(SlotGridService.toDto(doctorId, slot)));
+                        }
+                        (queued ? notified : slow).add(subscription);
+                    }
+                }
+            }));
+        }
+        notified.removeAll(slow);
+        slow.forEach(this::drop);
+        notified.forEach(this::schedule);
+    }
+
+    // Keeps connections from idling out in proxies, and finds clients that have gone
+    @Scheduled(fixedDelayString = "${app.slots.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        List<Subscription> current;
+        synchronized (lock) {
+            current = List.copyOf(subscriptions);
+        }
+        for (Subscription subscription : current) {
+            if (subscription.queue(SseEmitter.event().comment("heartbeat"))) {
+                schedule(subscription);
+            } else {
+                drop(subscription);
+            }
+        }
+    }
+
+    // The days of each changed doctor to compare; a doctor changed on any day has all its days compared
+    private Map<UUID, Set<LocalDate>> drainDirty() {
+        Map<UUID, Set<LocalDate>> changedDays = new HashMap<>();
+        for (UUID doctorId : List.copyOf(dirtyDays.keySet())) {
+            Set<LocalDate> dates = dirtyDays.remove(doctorId);
+            if (dates != null) {
+                changedDays.computeIfAbsent(doctorId, id -> new HashSet<>()).addAll(dates);
+            }
+        }
+        Set<UUID> allDays = new HashSet<>();
+        for (UUID doctorId : List.copyOf(dirtyDoctors)) {
+            if (dirtyDoctors.remove(doctorId)) {
+                allDays.add(doctorId);
+            }
+        }
+        synchronized (lock) {
+            allDays.forEach(doctorId -> {
+                Map<LocalDate, List<BookableSlot>> doctorDays = sent.get(doctorId);
+                if (doctorDays != null) {
+                    changedDays.computeIfAbsent(doctorId, id -> new HashSet<>()).addAll(doctorDays.keySet());
+                }
+            });
+            changedDays.entrySet().removeIf(entry -> {
+                Map<LocalDate, List<BookableSlot>> doctorDays = sent.get(entry.getKey());
+                if (doctorDays == null) {
+                    return true;
+                }
+                entry.getValue().retainAll(doctorDays.keySet());
+                return entry.getValue().isEmpty();
+            });
+        }
+        return changedDays;
+    }
+
+    // A slot is matched on its times; one that disappears counts as taken, down to no places left
+    private static void diff(List<BookableSlot> before, List<BookableSlot> after,
+                             List<BookableSlot> taken, List<BookableSlot> freed) {
+        Map<List<LocalDateTime>, BookableSlot> previous = new LinkedHashMap<>();
+        if (before != null) {
+            before.forEach(slot -> previous.put(List.of(slot.start(), slot.end()), slot));
+        }
+        for (BookableSlot slot : after) {
+            BookableSlot old = previous.remove(List.of(slot.start(), slot.end()));
+            int remainingBefore = old != null ? old.remaining() : 0;
+            if (slot.remaining() < remainingBefore) {
+                taken.add(slot);
+            } else if (slot.remaining() > remainingBefore) {
+                freed.add(slot);
+            }
+        }
+        previous.values().forEach(slot -> taken.add(
+                new BookableSlot(slot.start(), slot.end(), slot.capacity(), 0, slot.source(), slot.sourceId())));
+    }
+
+    // Starts draining the client's queue unless a sender is already at it
+    private void schedule(Subscription subscription) {
+        if (subscription.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscription.draining.set(false);
+            }
+        }
+    }
+
+    // Sends without the lock; events queued after the last poll are picked up before letting go
+    private void drain(Subscription subscription) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.pending.poll()) != null) {
+                try {
+                    subscription.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscription);
+                    return;
+                }
+            }
+            subscription.draining.set(false);
+        } while (!subscription.pending.isEmpty() && subscription.draining.compareAndSet(false, true));
+    }
+
+    // Must be called without the lock held
+    private void drop(Subscription subscription) {
+        boolean removed;
+        synchronized (lock) {
+            removed = remove(subscription);
+        }
+        subscription.pending.clear();
+        if (removed) {
+            subscription.emitter.completeWithError(new IOException("Slot stream client is gone or too slow"));
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        synchronized (lock) {
+            remove(subscription);
+        }
+    }
+
+    // Must be called with the lock held; a doctor no longer watched by anyone is forgotten
+    private boolean remove(Subscription subscription) {
+        if (!subscriptions.remove(subscription)) {
+            return false;
+        }
+        for (UUID doctorId : subscription.doctorIds) {
+            if (subscriptions.stream().noneMatch(other -> other.doctorIds.contains(doctorId))) {
+                watched.remove(doctorId);
+                sent.remove(doctorId);
+            }
+        }
+        log.debug("Slot stream closed; {} clients remain", subscriptions.size());
+        return true;
+    }
+
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<UUID> doctorIds;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscription(SseEmitter emitter, Set<UUID> doctorIds, LocalDate from, LocalDate to, int queueSize) {
+            this.emitter = emitter;
+            this.doctorIds = doctorIds;
+            this.from = from;
+            this.to = to;
+            this.pending = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        // False once the client has fallen too far behind
+        boolean queue(SseEmitter.SseEventBuilder event) {
+            return pending.offer(event);
+        }
+
+        boolean watches(UUID doctorId, LocalDate day) {
+            return doctorIds.contains(doctorId) && !day.isBefore(from) && day.isBefore(to);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.docmate.availability.slots;
+
+import com.docmate.availability.repository.DoctorRecurringAvailabilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Doctors' availability as a {@link DayMask} per doctor and day, so checking a time against a
+ * schedule is a few word operations on memory rather than a read of rules and slots.
+ * <p>
+ * Days from today up to the horizon are kept. Once {@link SlotChangeListener} is listening, every
+ * doctor with a recurring schedule is indexed in the background in batches, and days are rebuilt
+ * lazily after a change drops them. Days outside the horizon, and any day while the listener is
+ * down, are built from the database on each check.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex implements SlotChangeSubscriber {
+
+    private static final int WARM_BATCH_SIZE = 200;
+
+    private final ScheduleReader scheduleReader;
+    private final DoctorRecurringAvailabilityRepository recurringRepository;
+
+    @Value("${app.slots.index-days:28}")
+    private int indexDays;
+
+    private final DoctorDayCache<DayMask> cache = new DoctorDayCache<>();
+
+    private volatile boolean enabled;
+
+    /**
+     * Whether the doctor's schedule covers the whole of the given time, bookings aside.
+     */
+    public boolean isOpen(UUID doctorId, LocalDateTime start, int durationMinutes) {
+        return check(doctorId, start, durationMinutes, DayMask::isOpen);
+    }
+
+    /**
+     * Whether the doctor's schedule covers the whole of the given time with capacity left throughout.
+     */
+    public boolean isFree(UUID doctorId, LocalDateTime start, int durationMinutes) {
+        return check(doctorId, start, durationMinutes, DayMask::isFree);
+    }
+
+    private boolean check(UUID doctorId, LocalDateTime start, int durationMinutes, UnitCheck unitCheck) {
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        if (!end.isAfter(start)) {
+            return false;
+        }
+        for (LocalDate day = start.toLocalDate(); day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            if (!unitCheck.test(day(doctorId, day), DayMask.touchedFrom(day, start), DayMask.touchedTo(day, end))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    DayMask day(UUID doctorId, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        boolean indexing = enabled && !date.isBefore(today) && date.isBefore(today.plusDays(indexDays));
+        long version = indexing ? cache.version(doctorId) : 0;
+        DayMask mask = indexing ? cache.get(doctorId, date) : null;
+        if (mask != null) {
+            return mask;
+        }
+        mask = DayMask.of(date, scheduleReader.read(List.of(doctorId), date, date.plusDays(1)).get(doctorId).get(date));
+        if (indexing) {
+            cache.put(doctorId, date, mask, version);
+        }
+        return mask;
+    }
+
+    @Override
+    public void changed(UUID doctorId, LocalDate date) {
+        cache.invalidate(doctorId, date);
+    }
+
+    @Override
+    public void enable() {
+        cache.clear();
+        enabled = true;
+        Thread warmer = new Thread(this::warm, "availability-index-warmer");
+        warmer.setDaemon(true);
+        warmer.start();
+    }
+
+    @Override
+    public void disable() {
+        enabled = false;
+        cache.clear();
+    }
+
+    @Scheduled(cron = "${app.slots.purge-cron:0 5 0 * * *}")
+    public void purgePastDays() {
+        cache.removeBefore(LocalDate.now());
+    }
+
+    private void warm() {
+        LocalDate today = LocalDate.now();
+        LocalDate to = today.plusDays(indexDays);
+        try {
+            List<UUID> doctorIds = recurringRepository.findScheduledDoctorIds();
+            for (int i = 0; i < doctorIds.size() && enabled; i += WARM_BATCH_SIZE) {
+                List<UUID> batch = doctorIds.subList(i, Math.min(i + WARM_BATCH_SIZE, doctorIds.size()));
+                Map<UUID, Long> versions = new HashMap<>();
+                batch.forEach(doctorId -> versions.put(doctorId, cache.version(doctorId)));
+                scheduleReader.read(batch, today, to).forEach((doctorId, days) -> days.forEach((day, schedule) ->
+                        cache.put(doctorId, day, DayMask.of(day, schedule), versions.get(doctorId))));
+            }
+            log.info("Indexed availability of {} doctors for {} days", doctorIds.size(), indexDays);
+        } catch (RuntimeException e) {
+            // Days left out are built on first use
+            log.warn("Could not index doctors' availability up front", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface UnitCheck {
+
+        boolean test(DayMask mask, int fromUnit, int toUnit);
+    }
+}
@@ -0,0 +1,10 @@
+package com.docmate.availability.slots;
+
+import com.docmate.availability.dto.SlotSource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BookableSlot(LocalDateTime start, LocalDateTime end, int capacity, int remaining,
+                           SlotSource source, UUID sourceId) {
+}
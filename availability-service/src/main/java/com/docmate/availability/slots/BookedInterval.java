@@ -0,0 +1,10 @@
+package com.docmate.availability.slots;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The time an active appointment takes out of its doctor's schedule.
+ */
+public record BookedInterval(UUID doctorId, LocalDateTime start, LocalDateTime end) {
+}
@@ -0,0 +1,163 @@
+package com.docmate.availability.slots;
+
+import com.docmate.common.entity.DoctorAvailability;
+import com.docmate.common.entity.TimeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * One doctor's day as two bitmaps of {@value #UNIT_MINUTES}-minute units: the units the schedule
+ * opens, and the units in which bookings have taken all of the capacity. Units are set in the
+ * open map only where a rule or ad-hoc slot covers them entirely, and in the full map wherever a
+ * booking touches them, so checks against the maps never admit more than the schedule does.
+ */
+final class DayMask {
+
+    static final int UNIT_MINUTES = 5;
+    static final int UNITS = 24 * 60 / UNIT_MINUTES;
+
+    private static final int WORDS = (UNITS + 63) >>> 6;
+
+    private final long[] open;
+    private final long[] full;
+
+    private DayMask(long[] open, long[] full) {
+        this.open = open;
+        this.full = full;
+    }
+
+    static DayMask of(LocalDate date, DaySchedule schedule) {
+        int[] capacity = new int[UNITS];
+        for (DoctorAvailability rule : schedule.rules()) {
+            if (SlotMaterializer.appliesOn(rule, date) && rule.getEndTime().isAfter(rule.getStartTime())) {
+                int ruleCapacity = rule.getCapacity() != null ? Math.max(rule.getCapacity(), 1) : 1;
+                raise(capacity, coveredFrom(date, date.atTime(rule.getStartTime())),
+                        coveredTo(date, date.atTime(rule.getEndTime())), ruleCapacity);
+            }
+        }
+        for (TimeSlot slot : schedule.adhocSlots()) {
+            switch (slot.getStatus()) {
+                case AVAILABLE -> raise(capacity, coveredFrom(date, slot.getStartTime()),
+                        coveredTo(date, slot.getEndTime()), 1);
+                case BLOCKED -> {
+                    for (int unit = touchedFrom(date, slot.getStartTime()); unit < touchedTo(date, slot.getEndTime()); unit++) {
+                        capacity[unit] = 0;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        int[] taken = new int[UNITS];
+        for (BookedInterval booking : schedule.bookings()) {
+            for (int unit = touchedFrom(date, booking.start()); unit < touchedTo(date, booking.end()); unit++) {
+                taken[unit]++;
+            }
+        }
+
+        long[] open = new long[WORDS];
+        long[] full = new long[WORDS];
+        for (int unit = 0; unit < UNITS; unit++) {
+            if (capacity[unit] > 0) {
+                open[unit >>> 6] |= 1L << unit;
+                if (taken[unit] >= capacity[unit]) {
+                    full[unit >>> 6] |= 1L << unit;
+                }
+            }
+        }
+        return new DayMask(open, full);
+    }
+
+    /**
+     * Whether the schedule opens every unit of [fromUnit, toUnit).
+     */
+    boolean isOpen(int fromUnit, int toUnit) {
+        return allSet(open, fromUnit, toUnit);
+    }
+
+    /**
+     * Whether every unit of [fromUnit, toUnit) is open and has capacity left.
+     */
+    boolean isFree(int fromUnit, int toUnit) {
+        return allSet(open, fromUnit, toUnit) && noneSet(full, fromUnit, toUnit);
+    }
+
+    /**
+     * Whether any unit of [fromUnit, toUnit) is open and has capacity left.
+     */
+    boolean hasFreeUnit(int fromUnit, int toUnit) {
+        for (int word = fromUnit >>> 6; word <= (toUnit - 1) >>> 6; word++) {
+            if ((open[word] & ~full[word] & mask(word, fromUnit, toUnit)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // First unit touched by a time, clamped to the day
+    static int touchedFrom(LocalDate date, LocalDateTime time) {
+        return clamp(Math.floorDiv(minutesInto(date, time), UNIT_MINUTES));
+    }
+
+    // Unit after the last one touched by an end time, clamped to the day
+    static int touchedTo(LocalDate date, LocalDateTime time) {
+        return clamp(Math.floorDiv(minutesInto(date, time) + UNIT_MINUTES - 1, UNIT_MINUTES));
+    }
+
+    private static int coveredFrom(LocalDate date, LocalDateTime time) {
+        return touchedTo(date, time);
+    }
+
+    private static int coveredTo(LocalDate date, LocalDateTime time) {
+        return touchedFrom(date, time);
+    }
+
+    private static long minutesInto(LocalDate date, LocalDateTime time) {
+        // Seconds are ignored; slots and rules are kept to the minute
+        return ChronoUnit.MINUTES.between(date.atStartOfDay(), time.truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    private static int clamp(long unit) {
+        return (int) Math.max(0, Math.min(UNITS, unit));
+    }
+
+    private static void raise(int[] capacity, int fromUnit, int toUnit, int value) {
+        for (int unit = fromUnit; unit < toUnit; unit++) {
+            capacity[unit] = Math.max(capacity[unit], value);
+        }
+    }
+
+    private static boolean allSet(long[] words, int fromUnit, int toUnit) {
+        for (int word = fromUnit >>> 6; word <= (toUnit - 1) >>> 6; word++) {
+            long mask = mask(word, fromUnit, toUnit);
+            if ((words[word] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean noneSet(long[] words, int fromUnit, int toUnit) {
+        for (int word = fromUnit >>> 6; word <= (toUnit - 1) >>> 6; word++) {
+            if ((words[word] & mask(word, fromUnit, toUnit)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The bits of one word that fall within [fromUnit, toUnit), which must not be empty
+    private static long mask(int word, int fromUnit, int toUnit) {
+        long mask = -1L;
+        if (word == fromUnit >>> 6) {
+            mask &= -1L << (fromUnit & 63);
+        }
+        if (word == (toUnit - 1) >>> 6) {
+            mask &= -1L >>> (63 - ((toUnit - 1) & 63));
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,16 @@
+package com.docmate.availability.slots;
+
+import com.docmate.common.entity.DoctorAvailability;
+import com.docmate.common.entity.TimeSlot;
+
+import java.util.List;
+
+/**
+ * Everything that decides a doctor's availability on one day.
+ *
+ * @param rules      the doctor's recurring rules, whatever their day
+ * @param adhocSlots the doctor's ad-hoc slots touching the day
+ * @param bookings   the doctor's bookings touching the day
+ */
+public record DaySchedule(List<DoctorAvailability> rules, List<TimeSlot> adhocSlots, List<BookedInterval> bookings) {
+}
@@ -0,0 +1,70 @@
+package com.docmate.availability.slots;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Values per doctor and day that are dropped as changes are reported. Each doctor has a version
+ * moved by every change to any of their days; a value is stored against the version read before
+ * it was loaded and is discarded if the version moved meanwhile, as it may predate the change.
+ * Versions come from one clock, so a doctor dropped and cached again never reuses one.
+ */
+final class DoctorDayCache<V> {
+
+    private final Map<UUID, DoctorDays<V>> doctors = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    V get(UUID doctorId, LocalDate day) {
+        DoctorDays<V> cached = doctors.get(doctorId);
+        return cached != null ? cached.days.get(day) : null;
+    }
+
+    long version(UUID doctorId) {
+        return doctors.computeIfAbsent(doctorId, id -> new DoctorDays<>(clock.incrementAndGet())).version;
+    }
+
+    void put(UUID doctorId, LocalDate day, V value, long loadedAt) {
+        DoctorDays<V> cached = doctors.get(doctorId);
+        if (cached == null) {
+            return;
+        }
+        cached.days.put(day, value);
+        if (cached.version != loadedAt) {
+            cached.days.remove(day, value);
+        }
+    }
+
+    void invalidate(UUID doctorId, LocalDate day) {
+        DoctorDays<V> cached = doctors.get(doctorId);
+        if (cached == null) {
+            return;
+        }
+        cached.version = clock.incrementAndGet();
+        if (day == null) {
+            cached.days.clear();
+        } else {
+            cached.days.remove(day);
+        }
+    }
+
+    void removeBefore(LocalDate day) {
+        doctors.values().forEach(cached -> cached.days.keySet().removeIf(cachedDay -> cachedDay.isBefore(day)));
+    }
+
+    void clear() {
+        doctors.clear();
+    }
+
+    private static final class DoctorDays<V> {
+
+        private final Map<LocalDate, V> days = new ConcurrentHashMap<>();
+        private volatile long version;
+
+        DoctorDays(long version) {
+            this.version = version;
+        }
+    }
+}
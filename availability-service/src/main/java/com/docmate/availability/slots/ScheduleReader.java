@@ -0,0 +1,79 @@
+package com.docmate.availability.slots;
+
+import com.docmate.availability.repository.DoctorAdhocAvailabilityRepository;
+import com.docmate.availability.repository.DoctorRecurringAvailabilityRepository;
+import com.docmate.common.entity.DoctorAvailability;
+import com.docmate.common.entity.TimeSlot;
+import com.docmate.common.enums.AvailabilityStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the schedules of many doctors over many days with one read each of the rules, ad-hoc
+ * slots and bookings.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleReader {
+
+    private final DoctorRecurringAvailabilityRepository recurringRepository;
+    private final DoctorAdhocAvailabilityRepository adhocRepository;
+
+    /**
+     * Returns the schedule of each doctor for every day in [from, to).
+     */
+    public Map<UUID, Map<LocalDate, DaySchedule>> read(Collection<UUID> doctorIds, LocalDate from, LocalDate to) {
+        // Ad-hoc slots and bookings starting the day before may run past midnight
+        LocalDateTime readFrom = from.minusDays(1).atStartOfDay();
+        LocalDateTime readTo = to.atStartOfDay();
+        Map<UUID, List<DoctorAvailability>> rules = recurringRepository
+                .findByDoctorIdInAndIsRecurringTrueAndStatus(doctorIds, AvailabilityStatus.AVAILABLE).stream()
+                .collect(Collectors.groupingBy(DoctorAvailability::getDoctorId));
+        Map<UUID, Map<LocalDate, List<TimeSlot>>> adhocSlots = byDay(
+                adhocRepository.findByDoctorIdsStartingBetween(doctorIds, readFrom, readTo),
+                TimeSlot::getDoctorId, TimeSlot::getStartTime, TimeSlot::getEndTime);
+        Map<UUID, Map<LocalDate, List<BookedInterval>>> bookings = byDay(
+                adhocRepository.findBookedIntervals(doctorIds, readFrom, readTo),
+                BookedInterval::doctorId, BookedInterval::start, BookedInterval::end);
+
+        Map<UUID, Map<LocalDate, DaySchedule>> schedules = new HashMap<>();
+        for (UUID doctorId : doctorIds) {
+            Map<LocalDate, DaySchedule> days = new HashMap<>();
+            for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                days.put(day, new DaySchedule(
+                        rules.getOrDefault(doctorId, List.of()),
+                        adhocSlots.getOrDefault(doctorId, Map.of()).getOrDefault(day, List.of()),
+                        bookings.getOrDefault(doctorId, Map.of()).getOrDefault(day, List.of())));
+            }
+            schedules.put(doctorId, days);
+        }
+        return schedules;
+    }
+
+    // Files each item under every day it touches
+    private static <T> Map<UUID, Map<LocalDate, List<T>>> byDay(List<T> items,
+                                                               Function<T, UUID> doctor,
+                                                               Function<T, LocalDateTime> start,
+                                                               Function<T, LocalDateTime> end) {
+        Map<UUID, Map<LocalDate, List<T>>> byDay = new HashMap<>();
+        for (T item : items) {
+            Map<LocalDate, List<T>> days = byDay.computeIfAbsent(doctor.apply(item), id -> new HashMap<>());
+            LocalDate last = end.apply(item).minusNanos(1).toLocalDate();
+            for (LocalDate day = start.apply(item).toLocalDate(); !day.isAfter(last); day = day.plusDays(1)) {
+                days.computeIfAbsent(day, d -> new ArrayList<>()).add(item);
+            }
+        }
+        return byDay;
+    }
+}
@@ -0,0 +1,44 @@
+package com.docmate.availability.slots;
+
+import com.docmate.common.notify.NotificationHandler;
+import com.docmate.common.notify.SlotChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Receives the {@code slot_changes} channel, which database triggers notify with the doctor and
+ * day whenever a booking, ad-hoc slot or recurring rule changes, and passes each change to every
+ * {@link SlotChangeSubscriber}. Subscribers are disabled while the channel is not being listened to.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotChangeListener implements NotificationHandler {
+
+    private final List<SlotChangeSubscriber> subscribers;
+
+    @Override
+    public String channel() {
+        return SlotChange.CHANNEL;
+    }
+
+    @Override
+    public void notified(String payload) {
+        SlotChange.parse(payload).ifPresentOrElse(
+                change -> subscribers.forEach(subscriber -> subscriber.changed(change.doctorId(), change.date())),
+                () -> log.warn("Ignoring malformed slot change '{}'", payload));
+    }
+
+    @Override
+    public void enable() {
+        subscribers.forEach(SlotChangeSubscriber::enable);
+    }
+
+    @Override
+    public void disable() {
+        subscribers.forEach(SlotChangeSubscriber::disable);
+    }
+}
@@ -0,0 +1,20 @@
+package com.docmate.availability.slots;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Something kept in step with doctors' schedules and bookings through {@link SlotChangeListener}.
+ */
+public interface SlotChangeSubscriber {
+
+    /**
+     * A change touched the doctor's given day, or any of their days when {@code date} is null.
+     */
+    void changed(UUID doctorId, LocalDate date);
+
+    // Changes may have been missed before listening started, so state kept until now is stale
+    void enable();
+
+    void disable();
+}
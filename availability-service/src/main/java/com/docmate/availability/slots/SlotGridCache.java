@@ -0,0 +1,106 @@
+package com.docmate.availability.slots;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Materialized bookable slots per doctor and day, so a month of a doctor's slots is served from
+ * memory once loaded.
+ * <p>
+ * Days missing from the cache are materialized together through {@link ScheduleReader}, for
+ * every doctor asked for at once. Only days from today up to the horizon are kept, and days are
+ * dropped as {@link SlotChangeListener} reports changes to them. The cache is only used while the
+ * listener is listening.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotGridCache implements SlotChangeSubscriber {
+
+    private final ScheduleReader scheduleReader;
+
+    @Value("${app.slots.horizon-days:90}")
+    private int horizonDays;
+
+    private final DoctorDayCache<List<BookableSlot>> cache = new DoctorDayCache<>();
+
+    private volatile boolean enabled;
+
+    public Map<LocalDate, List<BookableSlot>> getDays(UUID doctorId, LocalDate from, LocalDate to) {
+        return getDays(List.of(doctorId), from, to).get(doctorId);
+    }
+
+    /**
+     * Returns the bookable slots of each doctor for every day in [from, to), including past
+     * slots of today; days without any map to an empty list.
+     */
+    public Map<UUID, Map<LocalDate, List<BookableSlot>>> getDays(Collection<UUID> doctorIds, LocalDate from, LocalDate to) {
+        boolean caching = enabled;
+        Map<UUID, Map<LocalDate, List<BookableSlot>>> result = new HashMap<>();
+        Map<UUID, Long> missing = new HashMap<>();
+        for (UUID doctorId : doctorIds) {
+            Map<LocalDate, List<BookableSlot>> days = new HashMap<>();
+            result.put(doctorId, days);
+            // Read before the cached days, so a change landing in between discards what is loaded
+            long version = caching ? cache.version(doctorId) : 0;
+            for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                List<BookableSlot> slots = caching ? cache.get(doctorId, day) : null;
+                if (slots == null) {
+                    missing.putIfAbsent(doctorId, version);
+                } else {
+                    days.put(day, slots);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(horizonDays);
+        scheduleReader.read(missing.keySet(), from, to).forEach((doctorId, days) -> days.forEach((day, schedule) -> {
+            if (result.get(doctorId).containsKey(day)) {
+                return;
+            }
+            List<BookableSlot> slots = SlotMaterializer.materialize(day, schedule);
+            result.get(doctorId).put(day, slots);
+            if (caching && !day.isBefore(today) && day.isBefore(horizon)) {
+                cache.put(doctorId, day, slots, missing.get(doctorId));
+            }
+        }));
+        log.debug("Materialized slots of {} doctors from {} to {}", missing.size(), from, to);
+        return result;
+    }
+
+    @Override
+    public void changed(UUID doctorId, LocalDate date) {
+        cache.invalidate(doctorId, date);
+    }
+
+    @Override
+    public void enable() {
+        cache.clear();
+        enabled = true;
+    }
+
+    @Override
+    public void disable() {
+        enabled = false;
+        cache.clear();
+    }
+
+    @Scheduled(cron = "${app.slots.purge-cron:0 5 0 * * *}")
+    public void purgePastDays() {
+        cache.removeBefore(LocalDate.now());
+    }
+}
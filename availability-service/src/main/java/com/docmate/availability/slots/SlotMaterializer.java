@@ -0,0 +1,106 @@
+package com.docmate.availability.slots;
+
+import com.docmate.availability.dto.SlotSource;
+import com.docmate.common.entity.DoctorAvailability;
+import com.docmate.common.entity.TimeSlot;
+import com.docmate.common.enums.AvailabilityStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns one doctor's schedule for one day into the concrete slots that can still be booked.
+ * <p>
+ * Recurring rules in effect on the day are cut into slots of their slot duration and ad-hoc
+ * available slots are added as they are; a slot offered by both keeps the larger capacity.
+ * Slots overlapping a blocked ad-hoc slot are dropped. Every other slot keeps its capacity less
+ * the bookings overlapping it, and is left out once nothing remains.
+ */
+public final class SlotMaterializer {
+
+    private static final int DEFAULT_SLOT_MINUTES = 30;
+
+    private static final Comparator<BookableSlot> START_ORDER =
+            Comparator.comparing(BookableSlot::start).thenComparing(BookableSlot::end);
+
+    private SlotMaterializer() {
+    }
+
+    public static List<BookableSlot> materialize(LocalDate date, DaySchedule schedule) {
+        Map<List<LocalDateTime>, BookableSlot> offered = new LinkedHashMap<>();
+        for (DoctorAvailability rule : schedule.rules()) {
+            if (appliesOn(rule, date)) {
+                expand(date, rule, offered);
+            }
+        }
+
+        List<TimeSlot> blocked = new ArrayList<>();
+        for (TimeSlot slot : schedule.adhocSlots()) {
+            switch (slot.getStatus()) {
+                case AVAILABLE -> {
+                    // A slot running past midnight belongs to the day it starts on
+                    if (slot.getStartTime().toLocalDate().equals(date)) {
+                        offer(offered, new BookableSlot(slot.getStartTime(), slot.getEndTime(),
+                                1, 1, SlotSource.ADHOC, slot.getId()));
+                    }
+                }
+                case BLOCKED -> blocked.add(slot);
+                // A booked slot is covered by its appointment; cancelled and expired ones offer nothing
+                default -> {
+                }
+            }
+        }
+
+        List<BookableSlot> bookable = new ArrayList<>(offered.size());
+        for (BookableSlot slot : offered.values()) {
+            if (blocked.stream().anyMatch(block -> overlaps(slot, block.getStartTime(), block.getEndTime()))) {
+                continue;
+            }
+            long taken = schedule.bookings().stream()
+                    .filter(booking -> overlaps(slot, booking.start(), booking.end()))
+                    .count();
+            int remaining = (int) Math.max(slot.capacity() - taken, 0);
+            if (remaining > 0) {
+                bookable.add(new BookableSlot(slot.start(), slot.end(), slot.capacity(), remaining,
+                        slot.source(), slot.sourceId()));
+            }
+        }
+        bookable.sort(START_ORDER);
+        return List.copyOf(bookable);
+    }
+
+    static boolean appliesOn(DoctorAvailability rule, LocalDate date) {
+        return rule.getStatus() == AvailabilityStatus.AVAILABLE
+                && rule.getDayOfWeek().name().equals(date.getDayOfWeek().name())
+                && (rule.getEffectiveFrom() == null || !rule.getEffectiveFrom().isAfter(date))
+                && (rule.getEffectiveUntil() == null || !rule.getEffectiveUntil().isBefore(date));
+    }
+
+    private static void expand(LocalDate date, DoctorAvailability rule, Map<List<LocalDateTime>, BookableSlot> offered) {
+        int minutes = rule.getSlotDurationMinutes() != null && rule.getSlotDurationMinutes() > 0
+                ? rule.getSlotDurationMinutes()
+                : DEFAULT_SLOT_MINUTES;
+        int capacity = rule.getCapacity() != null ? Math.max(rule.getCapacity(), 1) : 1;
+        LocalDateTime end = date.atTime(rule.getEndTime());
+        for (LocalDateTime start = date.atTime(rule.getStartTime());
+             !start.plusMinutes(minutes).isAfter(end);
+             start = start.plusMinutes(minutes)) {
+            offer(offered, new BookableSlot(start, start.plusMinutes(minutes), capacity, capacity,
+                    SlotSource.RECURRING, rule.getId()));
+        }
+    }
+
+    private static void offer(Map<List<LocalDateTime>, BookableSlot> offered, BookableSlot slot) {
+        offered.merge(List.of(slot.start(), slot.end()), slot,
+                (current, candidate) -> candidate.capacity() > current.capacity() ? candidate : current);
+    }
+
+    private static boolean overlaps(BookableSlot slot, LocalDateTime start, LocalDateTime end) {
+        return start.isBefore(slot.end()) && end.isAfter(slot.start());
+    }
+}
@@ -0,0 +1,22 @@
+package com.docmate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Whether a doctor or patient account can take part in bookings; served to other services.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStatusDto {
+
+    private UUID id;
+    private Boolean active;
+    private Boolean approved; // Doctors only
+}
@@ -26,6 +26,7 @@ public class AvailabilityDto {
     private LocalTime startTime;
     private LocalTime endTime;
     private Integer capacity;
+    private Integer slotDurationMinutes; // For recurring availability
     private Boolean isActive;
     private Boolean isRecurring;
     private LocalDateTime createdDate;
@@ -1,6 +1,7 @@
 package com.docmate.common.dto;
 
 import com.docmate.common.enums.DayOfWeek;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,5 +32,10 @@ public class CreateAvailabilityRequest {
     @Builder.Default
     private Boolean isRecurring = false;
 
+    @Min(value = 5, message = "Slot duration must be at least 5 minutes")
     private Integer slotDurationMinutes;
+
+    // Patients who can book each slot of a recurring window, for group sessions
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity;
 }
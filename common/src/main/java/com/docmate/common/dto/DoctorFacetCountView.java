@@ -0,0 +1,15 @@
+package com.docmate.common.dto;
+
+/**
+ * Row of the aggregated doctor search facet query: one count per facet value.
+ */
+public interface DoctorFacetCountView {
+
+    String getFacet();
+
+    String getValue();
+
+    String getLabel();
+
+    Long getCount();
+}
@@ -0,0 +1,27 @@
+package com.docmate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Coordinates and search attributes of an approved doctor's primary address.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorLocationDto {
+
+    private UUID doctorId;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private UUID specializationId;
+    private BigDecimal feePerConsultation;
+    private Boolean videoConsultationEnabled;
+    private Boolean teleConsultationEnabled;
+}
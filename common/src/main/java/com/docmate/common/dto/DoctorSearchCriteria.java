@@ -0,0 +1,22 @@
+package com.docmate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSearchCriteria {
+
+    private String query;
+    private UUID specializationId;
+    private UUID conditionId;
+    private BigDecimal maxFee;
+    private String consultationType;
+}
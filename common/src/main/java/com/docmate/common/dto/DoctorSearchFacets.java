@@ -0,0 +1,30 @@
+package com.docmate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSearchFacets {
+
+    private long total;
+
+    @Builder.Default
+    private List<FacetCountDto> specializations = new ArrayList<>();
+
+    @Builder.Default
+    private List<FacetCountDto> conditions = new ArrayList<>();
+
+    @Builder.Default
+    private List<FacetCountDto> feeRanges = new ArrayList<>();
+
+    @Builder.Default
+    private List<FacetCountDto> consultationTypes = new ArrayList<>();
+}
@@ -0,0 +1,16 @@
+package com.docmate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyDoctorResponse {
+
+    private DoctorSearchResponse doctor;
+    private double distanceKm;
+}
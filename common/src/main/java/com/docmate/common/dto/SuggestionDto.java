@@ -0,0 +1,20 @@
+package com.docmate.common.dto;
+
+import com.docmate.common.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+
+    private SuggestionType type;
+    private UUID id;
+    private String text;
+}
@@ -1,5 +1,7 @@
 package com.docmate.common.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,4 +33,13 @@ public class UpdateDoctorProfileRequest {
     private Boolean videoConsultationEnabled;
     private Boolean teleConsultationEnabled;
     private Boolean emergencyAvailable;
+
+    // Coordinates of the primary address; both must be supplied together
+    @DecimalMin(value = "-90.0", message = "Latitude must be at least -90")
+    @DecimalMax(value = "90.0", message = "Latitude must not exceed 90")
+    private BigDecimal latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be at least -180")
+    @DecimalMax(value = "180.0", message = "Longitude must not exceed 180")
+    private BigDecimal longitude;
 }
@@ -0,0 +1,32 @@
+package com.docmate.common.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Page of results with optional facet counts. Serializes exactly like {@link PageResponse}
+ * when no facets were requested.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FacetedPageResponse<T, F> {
+
+    @JsonUnwrapped
+    private PageResponse<T> page;
+
+    private F facets;
+
+    public static <T, F> FacetedPageResponse<T, F> of(PageResponse<T> page, F facets) {
+        return FacetedPageResponse.<T, F>builder()
+                .page(page)
+                .facets(facets)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.docmate.common.enums;
 
 public enum AppointmentStatus {
+    HELD,
     PENDING,
     SCHEDULED,
     CONFIRMED,
@@ -0,0 +1,7 @@
+package com.docmate.common.enums;
+
+public enum SuggestionType {
+    DOCTOR,
+    SPECIALIZATION,
+    CONDITION
+}
@@ -0,0 +1,8 @@
+package com.docmate.common.enums;
+
+public enum WaitlistStatus {
+    WAITING,
+    OFFERED,
+    EXPIRED,
+    CANCELLED
+}
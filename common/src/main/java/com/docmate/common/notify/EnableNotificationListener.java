@@ -0,0 +1,20 @@
+package com.docmate.common.notify;
+
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the {@link NotificationListener}, which serves every {@link NotificationHandler} bean
+ * of the service over one database connection.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(NotificationListener.class)
+public @interface EnableNotificationListener {
+}
@@ -0,0 +1,20 @@
+package com.docmate.common.notify;
+
+/**
+ * Something kept in step with the database through a Postgres notification channel, served by
+ * the {@link NotificationListener}.
+ */
+public interface NotificationHandler {
+
+    /**
+     * The channel to listen on; several handlers may share one.
+     */
+    String channel();
+
+    void notified(String payload);
+
+    // Notifications may have been missed before listening started, so state kept until now is stale
+    void enable();
+
+    void disable();
+}
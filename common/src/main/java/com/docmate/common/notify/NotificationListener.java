@@ -0,0 +1,116 @@
+package com.docmate.common.notify;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Listens on the channels of every {@link NotificationHandler} and passes each notification to
+ * the handlers of its channel. Holds one pooled connection for all channels for as long as it
+ * listens and reconnects after a failure, with the handlers disabled until it is listening again.
+ */
+@Slf4j
+@Component
+public class NotificationListener {
+
+    private final DataSource dataSource;
+    private final List<NotificationHandler> handlers;
+    private final Map<String, List<NotificationHandler>> byChannel;
+
+    @Value("${app.notifications.poll-timeout-ms:5000}")
+    private int pollTimeoutMs;
+
+    @Value("${app.notifications.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public NotificationListener(DataSource dataSource, List<NotificationHandler> handlers) {
+        this.dataSource = dataSource;
+        this.handlers = handlers;
+        this.byChannel = handlers.stream().collect(Collectors.groupingBy(NotificationHandler::channel));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "db-notifications");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : byChannel.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                handlers.forEach(NotificationHandler::enable);
+                log.info("Listening for notifications on {}", byChannel.keySet());
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                handlers.forEach(NotificationHandler::disable);
+                if (running) {
+                    log.warn("Lost notification listener connection; retrying in {} ms", reconnectDelayMs, e);
+                    sleep();
+                }
+            }
+        }
+        handlers.forEach(NotificationHandler::disable);
+    }
+
+    private void dispatch(PGNotification notification) {
+        for (NotificationHandler handler : byChannel.getOrDefault(notification.getName(), List.of())) {
+            try {
+                handler.notified(notification.getParameter());
+            } catch (RuntimeException e) {
+                log.warn("Failed to handle notification '{}' on {}", notification.getParameter(), notification.getName(), e);
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
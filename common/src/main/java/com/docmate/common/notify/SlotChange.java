@@ -0,0 +1,29 @@
+package com.docmate.common.notify;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A change to a doctor's bookings or schedule, as published on the {@code slot_changes} channel.
+ * {@code date} is null when the change may touch any of the doctor's days.
+ */
+public record SlotChange(UUID doctorId, LocalDate date) {
+
+    public static final String CHANNEL = "slot_changes";
+
+    /**
+     * Parses a payload of the form {@code <doctorId>:<date>}, or {@code <doctorId>:*}; empty if malformed.
+     */
+    public static Optional<SlotChange> parse(String payload) {
+        int separator = payload.indexOf(':');
+        try {
+            UUID doctorId = UUID.fromString(payload.substring(0, Math.max(separator, 0)));
+            String day = payload.substring(separator + 1);
+            return Optional.of(new SlotChange(doctorId, "*".equals(day) ? null : LocalDate.parse(day)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.docmate.common.outbox;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the {@link OutboxPublisher}, the {@link OutboxRelay} that delivers its events and
+ * the {@link OutboxSink} selected by {@code app.outbox.sink}: {@code memory} (the default),
+ * {@code http} or {@code redis}. Scheduling is enabled for the relay.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@EnableScheduling
+@Import({OutboxPublisher.class, OutboxRelay.class,
+        InMemoryOutboxSink.class, HttpOutboxSink.class, RedisStreamOutboxSink.class})
+public @interface EnableOutbox {
+}
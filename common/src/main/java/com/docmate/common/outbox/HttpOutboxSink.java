@@ -0,0 +1,86 @@
+package com.docmate.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * POSTs each event as JSON to {@code app.outbox.http.url}. Any response outside 2xx fails the
+ * delivery. The event id is also sent as {@code X-Event-Id} for receivers that deduplicate, and
+ * {@code app.outbox.http.token}, when set, as {@code X-Outbox-Token} for receivers that only
+ * accept events from DocMate services.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.outbox.http.url}")
+    private URI url;
+
+    @Value("${app.outbox.http.token:}")
+    private String token;
+
+    @Value("${app.outbox.http.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${app.outbox.http.request-timeout-ms:5000}")
+    private long requestTimeoutMs;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    void init() {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    @Override
+    public void send(OutboxMessage message) {
+        HttpRequest request;
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(url)
+                    .timeout(Duration.ofMillis(requestTimeoutMs))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header("X-Event-Id", String.valueOf(message.id()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(message)));
+            if (!token.isEmpty()) {
+                builder.header("X-Outbox-Token", token);
+            }
+            request = builder.build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox event " + message.id(), e);
+        }
+
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while delivering outbox event " + message.id(), e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Outbox endpoint answered " + response.statusCode()
+                    + " to event " + message.id());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.docmate.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes each event as an {@link OutboxMessage} application event within the relaying
+ * service. A listener that throws fails the delivery, which is then retried.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void send(OutboxMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+}
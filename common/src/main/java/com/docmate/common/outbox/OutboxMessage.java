@@ -0,0 +1,26 @@
+package com.docmate.common.outbox;
+
+import com.docmate.common.entity.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An outbox event as handed to a sink. The id increases with every event written, so consumers
+ * can use it to drop the duplicates that at-least-once delivery allows.
+ */
+public record OutboxMessage(
+        Long id,
+        String source,
+        String aggregateType,
+        UUID aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        LocalDateTime createdAt) {
+
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getSource(), event.getAggregateType(),
+                event.getAggregateId(), event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,55 @@
+package com.docmate.common.outbox;
+
+import com.docmate.common.entity.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records domain events in the {@code outbox} table. An event is written by the transaction that
+ * makes the change it describes, so it is relayed exactly when that change commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.application.name}")
+    private String source;
+
+    /**
+     * Adds an event to the current transaction. Events of one aggregate are delivered in the
+     * order they were written.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + eventType + " event of "
+                    + aggregateType + " " + aggregateId, e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(OutboxEvent.builder()
+                .source(source)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(json)
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+    }
+}
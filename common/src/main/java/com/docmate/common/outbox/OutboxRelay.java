@@ -0,0 +1,124 @@
+package com.docmate.common.outbox;
+
+import com.docmate.common.entity.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Delivers this service's outbox events to the {@link OutboxSink}, at least once each.
+ * <p>
+ * Each batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so several instances of a service
+ * relay side by side without delivering the same event concurrently. Only the oldest pending
+ * event of an aggregate can be claimed, which keeps an aggregate's events in order even across
+ * failed deliveries: a failure holds back the rest of its aggregate until the retry succeeds.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String CLAIM_SQL = """
+            SELECT o.* FROM outbox o
+            WHERE o.source = :source
+              AND o.published_at IS NULL
+              AND o.available_at <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox p
+                  WHERE p.aggregate_type = o.aggregate_type
+                    AND p.aggregate_id = o.aggregate_id
+                    AND p.published_at IS NULL
+                    AND p.id < o.id)
+            ORDER BY o.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+
+    @Value("${spring.application.name}")
+    private String source;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.retry-base-delay-ms:1000}")
+    private long retryBaseDelayMs;
+
+    @Value("${app.outbox.retry-max-delay-ms:300000}")
+    private long retryMaxDelayMs;
+
+    @Value("${app.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    // Keeps claiming while batches make progress, so a backlog drains without waiting a poll interval
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void relay() {
+        int published;
+        do {
+            published = transactionTemplate.execute(status -> relayBatch());
+        } while (published > 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status -> entityManager
+                .createNativeQuery("DELETE FROM outbox WHERE source = :source AND published_at < :cutoff")
+                .setParameter("source", source)
+                .setParameter("cutoff", LocalDateTime.now().minusHours(retentionHours))
+                .executeUpdate());
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} published outbox events", deleted);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int relayBatch() {
+        List<OutboxEvent> batch = entityManager.createNativeQuery(CLAIM_SQL, OutboxEvent.class)
+                .setParameter("source", source)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("limit", batchSize)
+                .getResultList();
+
+        int published = 0;
+        for (OutboxEvent event : batch) {
+            try {
+                sink.send(OutboxMessage.of(event));
+                event.setPublishedAt(LocalDateTime.now());
+                published++;
+            } catch (RuntimeException e) {
+                int attempts = event.getAttempts() + 1;
+                event.setAttempts(attempts);
+                event.setAvailableAt(LocalDateTime.now().plus(Duration.ofMillis(retryDelayMs(attempts))));
+                event.setLastError(truncate(e.toString()));
+                log.warn("Delivery {} of outbox event {} ({} {} {}) failed: {}", attempts, event.getId(),
+                        event.getEventType(), event.getAggregateType(), event.getAggregateId(), e.toString());
+            }
+        }
+        if (published > 0) {
+            log.debug("Relayed {} of {} claimed outbox events", published, batch.size());
+        }
+        return published;
+    }
+
+    private long retryDelayMs(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        return Math.min(retryMaxDelayMs, retryBaseDelayMs << doublings);
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,10 @@
+package com.docmate.common.outbox;
+
+/**
+ * Delivers outbox events to their consumers. A send that returns counts as delivered; one that
+ * throws is retried later, so sinks must not swallow failures.
+ */
+public interface OutboxSink {
+
+    void send(OutboxMessage message);
+}
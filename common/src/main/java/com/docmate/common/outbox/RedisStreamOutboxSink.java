@@ -0,0 +1,41 @@
+package com.docmate.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends each event to the Redis stream of its aggregate type, {@code <prefix><aggregateType>}.
+ * Needs {@code spring-boot-starter-data-redis} on the service's classpath.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "redis")
+public class RedisStreamOutboxSink implements OutboxSink {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.outbox.redis.stream-prefix:docmate:events:}")
+    private String streamPrefix;
+
+    @Override
+    public void send(OutboxMessage message) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("id", String.valueOf(message.id()));
+        fields.put("source", message.source());
+        fields.put("aggregateType", message.aggregateType());
+        fields.put("aggregateId", message.aggregateId().toString());
+        fields.put("eventType", message.eventType());
+        fields.put("payload", message.payload());
+        fields.put("createdAt", message.createdAt().toString());
+        redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(streamPrefix + message.aggregateType()));
+    }
+}
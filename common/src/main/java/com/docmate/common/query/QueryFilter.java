@@ -0,0 +1,126 @@
+package com.docmate.common.query;
+
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the WHERE clause of a dynamic JPQL or SQL query from only the predicates that apply.
+ * <p>
+ * Optional predicates are added only when their value is supplied, so each filter combination
+ * produces its own statement text instead of one catch-all statement full of
+ * {@code (:param IS NULL OR ...)} branches. Every distinct text is planned for the predicates it
+ * really has, and is cached separately by Hibernate's query plan cache and by the JDBC driver's
+ * prepared statement cache.
+ * <p>
+ * Predicates are plain JPQL or SQL, so that one builder serves both the native statements, which
+ * use CTEs and Postgres operators the Criteria API cannot express, and the JPQL ones. A predicate
+ * must use the parameter it binds, which is checked as it is added; the statements themselves are
+ * checked against the database for every filter combination by the services that build them.
+ */
+public final class QueryFilter {
+
+    private final List<String> predicates = new ArrayList<>();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    private QueryFilter() {
+    }
+
+    public static QueryFilter create() {
+        return new QueryFilter();
+    }
+
+    public QueryFilter and(String predicate) {
+        predicates.add(predicate);
+        return this;
+    }
+
+    public QueryFilter and(String predicate, String name, Object value) {
+        if (!Pattern.compile(":" + Pattern.quote(name) + "\\b").matcher(predicate).find()) {
+            throw new IllegalArgumentException("Predicate does not use parameter :" + name + ": " + predicate);
+        }
+        predicates.add(predicate);
+        parameters.put(name, value);
+        return this;
+    }
+
+    public QueryFilter andIf(boolean condition, String predicate) {
+        return condition ? and(predicate) : this;
+    }
+
+    /**
+     * Adds the predicate and binds {@code value} to {@code name}, unless the value is null, a blank string or an empty collection.
+     */
+    public QueryFilter andIfPresent(String predicate, String name, Object value) {
+        return isPresent(value) ? and(predicate, name, value) : this;
+    }
+
+    /**
+     * Like {@link #andIfPresent(String, String, Object)}, binding the converted value instead.
+     */
+    public <T> QueryFilter andIfPresent(String predicate, String name, T value, Function<? super T, ?> converter) {
+        return isPresent(value) ? and(predicate, name, converter.apply(value)) : this;
+    }
+
+    /**
+     * Adds the conjunction of a nested filter's predicates, formatted into {@code template} at {@code %s},
+     * together with its parameters. Nothing is added when the nested filter is empty.
+     */
+    public QueryFilter andNested(String template, QueryFilter nested) {
+        if (nested.isEmpty()) {
+            return this;
+        }
+        predicates.add(String.format(template, nested.conjunction()));
+        parameters.putAll(nested.parameters);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return predicates.isEmpty();
+    }
+
+    /**
+     * Returns the WHERE clause, or an empty string when there are no predicates.
+     */
+    public String toWhereClause() {
+        return isEmpty() ? "" : " WHERE " + conjunction();
+    }
+
+    public Map<String, Object> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    public <Q extends Query> Q bind(Q query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    /**
+     * Returns a lower-case "contains" pattern for {@code LIKE ... ESCAPE '!'} with the LIKE
+     * wildcards in {@code text} escaped.
+     */
+    public static String containsPattern(String text) {
+        String escaped = text.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    private String conjunction() {
+        return String.join(" AND ", predicates);
+    }
+
+    private static boolean isPresent(Object value) {
+        return value != null && !(value instanceof String text && text.isBlank())
+                && !(value instanceof Collection<?> values && values.isEmpty());
+    }
+}
@@ -1,7 +1,9 @@
 package com.docmate.common.repository;
 
 import com.docmate.common.entity.Doctor;
+import com.docmate.common.dto.DoctorLocationDto;
 import com.docmate.common.dto.DoctorSearchResponse;
+import com.docmate.common.dto.SuggestionSourceDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,12 +12,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
+public interface DoctorRepository extends JpaRepository<Doctor, UUID>, DoctorSearchRepository {
 
     List<Doctor> findByIsApprovedTrue();
 
@@ -49,32 +52,37 @@ public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
 
     @Query("""
         SELECT new com.docmate.common.dto.DoctorSearchResponse(
-            d.id, d.user.fullName, d.user.profilePicture, s.name, d.bio, 
+            d.id, d.user.fullName, d.user.profilePicture, s.name, d.bio,
             d.experienceYears, d.feePerConsultation, d.averageRating, d.reviewCount,
             d.clinicName, d.videoConsultationEnabled, d.teleConsultationEnabled, d.emergencyAvailable
         )
-        FROM Doctor d 
-        LEFT JOIN d.user u 
+        FROM Doctor d
+        LEFT JOIN d.user u
         LEFT JOIN d.specialization s
-        LEFT JOIN d.conditions c
+        WHERE d.id IN :ids AND d.isApproved = true AND d.isActive = true
+        """)
+    List<DoctorSearchResponse> findSearchResponsesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+        SELECT new com.docmate.common.dto.DoctorLocationDto(
+            d.id, a.latitude, a.longitude, s.id, d.feePerConsultation,
+            d.videoConsultationEnabled, d.teleConsultationEnabled
+        )
+        FROM Doctor d
+        JOIN d.primaryAddress a
+        LEFT JOIN d.specialization s
+        WHERE d.isApproved = true AND d.isActive = true
+        AND a.latitude IS NOT NULL AND a.longitude IS NOT NULL
+        """)
+    List<DoctorLocationDto> findApprovedDoctorLocations();
+
+    @Query("""
+        SELECT new com.docmate.common.dto.SuggestionSourceDto(d.id, u.fullName, d.reviewCount)
+        FROM Doctor d
+        JOIN d.user u
         WHERE d.isApproved = true AND d.isActive = true
-        AND (:query IS NULL OR LOWER(u.fullName) LIKE LOWER(CONCAT('%', :query, '%')) 
-             OR LOWER(d.bio) LIKE LOWER(CONCAT('%', :query, '%'))
-             OR LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')))
-        AND (:specializationId IS NULL OR s.id = :specializationId)
-        AND (:conditionId IS NULL OR c.id = :conditionId)
-        AND (:maxFee IS NULL OR d.feePerConsultation <= :maxFee)
-        AND (:consultationType IS NULL 
-             OR (:consultationType = 'VIDEO' AND d.videoConsultationEnabled = true)
-             OR (:consultationType = 'TELE' AND d.teleConsultationEnabled = true))
-        ORDER BY d.averageRating DESC, d.reviewCount DESC
         """)
-    Page<DoctorSearchResponse> searchDoctors(@Param("query") String query,
-                                             @Param("specializationId") UUID specializationId,
-                                             @Param("conditionId") UUID conditionId,
-                                             @Param("maxFee") BigDecimal maxFee,
-                                             @Param("consultationType") String consultationType,
-                                             Pageable pageable);
+    List<SuggestionSourceDto> findApprovedDoctorNames();
 
     Optional<Doctor> findByUserId(UUID userId);
 
@@ -0,0 +1,26 @@
+package com.docmate.common.repository;
+
+import com.docmate.common.dto.DoctorFacetCountView;
+import com.docmate.common.dto.DoctorSearchCriteria;
+import com.docmate.common.dto.DoctorSearchResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Doctor search queries built from only the filters present in the criteria.
+ */
+public interface DoctorSearchRepository {
+
+    Page<DoctorSearchResponse> searchDoctors(DoctorSearchCriteria criteria, Pageable pageable);
+
+    // Counts every facet of the searchDoctors result set in a single statement
+    List<DoctorFacetCountView> countSearchFacets(DoctorSearchCriteria criteria);
+
+    // Returns the execution plan Postgres picks for the searchDoctors statement of these criteria
+    List<String> explainSearch(DoctorSearchCriteria criteria, Pageable pageable);
+
+    // Plans the search, count and facet statements of these criteria without running them; fails if any is invalid
+    void validateQueries(DoctorSearchCriteria criteria);
+}
@@ -0,0 +1,196 @@
+package com.docmate.common.repository;
+
+import com.docmate.common.dto.DoctorFacetCountView;
+import com.docmate.common.dto.DoctorSearchCriteria;
+import com.docmate.common.dto.DoctorSearchResponse;
+import com.docmate.common.query.QueryFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class DoctorSearchRepositoryImpl implements DoctorSearchRepository {
+
+    private static final String SEARCH_COLUMNS = """
+        SELECT d.id, u.full_name, u.profile_picture, s.name, d.bio,
+               d.experience_years, d.fee_per_consultation, d.average_rating, d.review_count,
+               d.clinic_name, d.video_consultation_enabled, d.tele_consultation_enabled, d.emergency_available
+        """;
+
+    private static final String SEARCH_FROM = """
+        FROM doctors d
+        JOIN users u ON u.id = d.id
+        LEFT JOIN specializations s ON s.id = d.specialization_id
+        """;
+
+    // d.id breaks ties so that pages stay stable; matches idx_doctors_search_rank
+    private static final String SEARCH_ORDER = " ORDER BY d.average_rating DESC, d.review_count DESC, d.id";
+
+    private static final String FACET_COUNTS = """
+        SELECT 'TOTAL' AS facet, NULL AS value, NULL AS label, COUNT(*) AS count
+        FROM matched
+        UNION ALL
+        SELECT 'SPECIALIZATION', CAST(s.id AS text), s.name, COUNT(*)
+        FROM matched m JOIN specializations s ON s.id = m.specialization_id
+        GROUP BY s.id, s.name
+        UNION ALL
+        SELECT 'CONDITION', CAST(c.id AS text), c.name, COUNT(*)
+        FROM matched m
+        JOIN doctor_conditions dc ON dc.doctor_id = m.id
+        JOIN conditions c ON c.id = dc.condition_id
+        GROUP BY c.id, c.name
+        UNION ALL
+        SELECT 'FEE', b.bucket, NULL, COUNT(*)
+        FROM (SELECT CASE
+                       WHEN m.fee_per_consultation < 50 THEN '0-50'
+                       WHEN m.fee_per_consultation < 100 THEN '50-100'
+                       WHEN m.fee_per_consultation < 200 THEN '100-200'
+                       ELSE '200+'
+                     END AS bucket
+              FROM matched m WHERE m.fee_per_consultation IS NOT NULL) b
+        GROUP BY b.bucket
+        UNION ALL
+        SELECT 'CONSULTATION_TYPE', 'VIDEO', NULL, COUNT(*) FILTER (WHERE m.video_consultation_enabled)
+        FROM matched m
+        UNION ALL
+        SELECT 'CONSULTATION_TYPE', 'TELE', NULL, COUNT(*) FILTER (WHERE m.tele_consultation_enabled)
+        FROM matched m
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<DoctorSearchResponse> searchDoctors(DoctorSearchCriteria criteria, Pageable pageable) {
+        QueryFilter filter = filter(criteria);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = filter.bind(entityManager.createNativeQuery(searchSql(filter)))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        List<DoctorSearchResponse> content = rows.stream().map(DoctorSearchRepositoryImpl::toSearchResponse).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> countDoctors(filter));
+    }
+
+    @Override
+    public List<DoctorFacetCountView> countSearchFacets(DoctorSearchCriteria criteria) {
+        QueryFilter filter = filter(criteria);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = filter.bind(entityManager.createNativeQuery(facetSql(filter))).getResultList();
+        return rows.stream()
+                .<DoctorFacetCountView>map(row -> new FacetCountRow(
+                        (String) row[0], (String) row[1], (String) row[2], ((Number) row[3]).longValue()))
+                .toList();
+    }
+
+    @Override
+    public List<String> explainSearch(DoctorSearchCriteria criteria, Pageable pageable) {
+        QueryFilter filter = filter(criteria);
+        return explain(searchSql(filter) + " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset(), filter);
+    }
+
+    @Override
+    public void validateQueries(DoctorSearchCriteria criteria) {
+        QueryFilter filter = filter(criteria);
+        explain(searchSql(filter) + " LIMIT 1", filter);
+        explain(countSql(filter), filter);
+        explain(facetSql(filter), filter);
+    }
+
+    private List<String> explain(String sql, QueryFilter filter) {
+        @SuppressWarnings("unchecked")
+        List<String> plan = filter.bind(entityManager.createNativeQuery("EXPLAIN " + sql)).getResultList();
+        return plan;
+    }
+
+    private long countDoctors(QueryFilter filter) {
+        return ((Number) filter.bind(entityManager.createNativeQuery(countSql(filter))).getSingleResult()).longValue();
+    }
+
+    private static String searchSql(QueryFilter filter) {
+        return SEARCH_COLUMNS + SEARCH_FROM + filter.toWhereClause() + SEARCH_ORDER;
+    }
+
+    private static String countSql(QueryFilter filter) {
+        return "SELECT COUNT(*) " + SEARCH_FROM + filter.toWhereClause();
+    }
+
+    private static String facetSql(QueryFilter filter) {
+        return """
+            WITH matched AS (
+                SELECT d.id, d.specialization_id, d.fee_per_consultation,
+                       d.video_consultation_enabled, d.tele_consultation_enabled
+            """ + SEARCH_FROM + filter.toWhereClause() + "\n)\n" + FACET_COUNTS;
+    }
+
+    private static QueryFilter filter(DoctorSearchCriteria criteria) {
+        String consultationType = criteria.getConsultationType();
+        return QueryFilter.create()
+                .and("d.is_approved = true")
+                .and("d.is_active = true")
+                .andIfPresent("""
+                        (LOWER(u.full_name) LIKE :query ESCAPE '!'
+                         OR LOWER(d.bio) LIKE :query ESCAPE '!'
+                         OR LOWER(s.name) LIKE :query ESCAPE '!')""",
+                        "query", criteria.getQuery(), QueryFilter::containsPattern)
+                .andIfPresent("d.specialization_id = :specializationId", "specializationId", criteria.getSpecializationId())
+                .andIfPresent("""
+                        EXISTS (SELECT 1 FROM doctor_conditions dc
+                                WHERE dc.doctor_id = d.id AND dc.condition_id = :conditionId)""",
+                        "conditionId", criteria.getConditionId())
+                .andIfPresent("d.fee_per_consultation <= :maxFee", "maxFee", criteria.getMaxFee())
+                .andIf("VIDEO".equals(consultationType), "d.video_consultation_enabled = true")
+                .andIf("TELE".equals(consultationType), "d.tele_consultation_enabled = true")
+                // Any other consultation type matches no doctor
+                .andIf(consultationType != null && !"VIDEO".equals(consultationType) && !"TELE".equals(consultationType),
+                        "false");
+    }
+
+    private static DoctorSearchResponse toSearchResponse(Object[] row) {
+        return new DoctorSearchResponse(
+                (UUID) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                row[5] != null ? ((Number) row[5]).intValue() : null,
+                (BigDecimal) row[6],
+                (BigDecimal) row[7],
+                row[8] != null ? ((Number) row[8]).intValue() : null,
+                (String) row[9],
+                (Boolean) row[10],
+                (Boolean) row[11],
+                (Boolean) row[12]);
+    }
+
+    private record FacetCountRow(String facet, String value, String label, Long count) implements DoctorFacetCountView {
+
+        @Override
+        public String getFacet() {
+            return facet;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public String getLabel() {
+            return label;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+}
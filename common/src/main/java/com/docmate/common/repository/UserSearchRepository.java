@@ -0,0 +1,37 @@
+package com.docmate.common.repository;
+
+import com.docmate.common.entity.User;
+import com.docmate.common.enums.ConsultationMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * User queries that cannot be expressed as derived or static queries.
+ */
+public interface UserSearchRepository {
+
+    Page<User> findDoctorsWithFilters(String query,
+                                      String specialization,
+                                      String condition,
+                                      BigDecimal maxFee,
+                                      ConsultationMode consultationMode,
+                                      Boolean emergencyAvailable,
+                                      Pageable pageable);
+
+    // Compiles the list and count statements of these filters without running them; fails if either is invalid
+    void validateDoctorFilterQueries(String query,
+                                     String specialization,
+                                     String condition,
+                                     BigDecimal maxFee,
+                                     ConsultationMode consultationMode,
+                                     Boolean emergencyAvailable);
+
+    /**
+     * Fuzzy search over name, email and phone backed by the pg_trgm GIN indexes. Only users whose
+     * word similarity to {@code term} reaches {@code threshold} are returned, best matches first.
+     */
+    List<User> searchBySimilarity(String term, double threshold, int limit);
+}
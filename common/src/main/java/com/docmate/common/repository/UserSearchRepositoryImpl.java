@@ -0,0 +1,97 @@
+package com.docmate.common.repository;
+
+import com.docmate.common.entity.User;
+import com.docmate.common.enums.ConsultationMode;
+import com.docmate.common.enums.UserRole;
+import com.docmate.common.query.QueryFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    // <% is the indexable form of word_similarity(term, column) >= pg_trgm.word_similarity_threshold
+    private static final String SIMILARITY_SEARCH = """
+        SELECT u.* FROM users u
+        WHERE :term <% LOWER(u.full_name)
+           OR :term <% LOWER(u.email)
+           OR :term <% u.phone
+        ORDER BY GREATEST(word_similarity(:term, LOWER(u.full_name)),
+                          word_similarity(:term, LOWER(u.email)),
+                          word_similarity(:term, COALESCE(u.phone, ''))) DESC,
+                 u.full_name
+        LIMIT :limit
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<User> findDoctorsWithFilters(String query, String specialization, String condition,
+                                             BigDecimal maxFee, ConsultationMode consultationMode,
+                                             Boolean emergencyAvailable, Pageable pageable) {
+        QueryFilter filter = doctorFilter(query, specialization, condition, maxFee, consultationMode, emergencyAvailable);
+
+        String jpql = QueryUtils.applySorting("SELECT u FROM User u" + filter.toWhereClause(), pageable.getSort(), "u");
+        List<User> content = filter.bind(entityManager.createQuery(jpql, User.class))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> filter.bind(
+                entityManager.createQuery("SELECT COUNT(u) FROM User u" + filter.toWhereClause(), Long.class))
+                .getSingleResult());
+    }
+
+    // Hibernate compiles JPQL and checks parameter names as queries are created and bound
+    @Override
+    public void validateDoctorFilterQueries(String query, String specialization, String condition, BigDecimal maxFee,
+                                            ConsultationMode consultationMode, Boolean emergencyAvailable) {
+        QueryFilter filter = doctorFilter(query, specialization, condition, maxFee, consultationMode, emergencyAvailable);
+        filter.bind(entityManager.createQuery("SELECT u FROM User u" + filter.toWhereClause(), User.class));
+        filter.bind(entityManager.createQuery("SELECT COUNT(u) FROM User u" + filter.toWhereClause(), Long.class));
+    }
+
+    private static QueryFilter doctorFilter(String query, String specialization, String condition, BigDecimal maxFee,
+                                            ConsultationMode consultationMode, Boolean emergencyAvailable) {
+        // Doctor profile filters share one correlated subquery, emitted only when any of them is given
+        QueryFilter doctorFilter = QueryFilter.create()
+                .andIfPresent("LOWER(d.specialization.name) = :specialization", "specialization",
+                        specialization, value -> value.trim().toLowerCase(Locale.ROOT))
+                .andIfPresent("EXISTS (SELECT 1 FROM Condition c WHERE c MEMBER OF d.conditions AND LOWER(c.name) = :condition)", "condition",
+                        condition, value -> value.trim().toLowerCase(Locale.ROOT))
+                .andIfPresent("d.feePerConsultation <= :maxFee", "maxFee", maxFee)
+                .andIf(consultationMode == ConsultationMode.VIDEO, "d.videoConsultationEnabled = true")
+                .andIf(consultationMode == ConsultationMode.TELE, "d.teleConsultationEnabled = true")
+                .andIfPresent("d.emergencyAvailable = :emergencyAvailable", "emergencyAvailable", emergencyAvailable);
+
+        return QueryFilter.create()
+                .and("u.role = :role", "role", UserRole.DOCTOR)
+                .and("u.isActive = true")
+                .andIfPresent("(LOWER(u.fullName) LIKE :query ESCAPE '!' OR LOWER(u.email) LIKE :query ESCAPE '!')",
+                        "query", query, QueryFilter::containsPattern)
+                .andNested("EXISTS (SELECT 1 FROM Doctor d WHERE d.id = u.id AND %s)", doctorFilter);
+    }
+
+    @Override
+    public List<User> searchBySimilarity(String term, double threshold, int limit) {
+        // Scoped to the current transaction, so pooled connections keep the server default
+        entityManager.createNativeQuery("SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)")
+                .setParameter("threshold", Double.toString(threshold))
+                .getSingleResult();
+
+        @SuppressWarnings("unchecked")
+        List<User> users = entityManager.createNativeQuery(SIMILARITY_SEARCH, User.class)
+                .setParameter("term", term.trim().toLowerCase(Locale.ROOT))
+                .setParameter("limit", limit)
+                .getResultList();
+        return users;
+    }
+}
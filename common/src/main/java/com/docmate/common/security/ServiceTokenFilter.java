@@ -0,0 +1,54 @@
+package com.docmate.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Authenticates calls from other DocMate services that carry the shared service token, so that
+ * they do not depend on an end user's credentials being at hand, as they are not on background
+ * threads. The token is honoured only for GETs on the paths the filter is registered for, and
+ * never while it is not configured.
+ */
+public class ServiceTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Service-Token";
+    public static final String ROLE = "SERVICE";
+
+    private final byte[] token;
+    private final List<RequestMatcher> paths;
+
+    public ServiceTokenFilter(String token, String... paths) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.paths = Arrays.stream(paths)
+                .<RequestMatcher>map(path -> AntPathRequestMatcher.antMatcher(HttpMethod.GET, path))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+        if (presented != null && token.length > 0
+                && paths.stream().anyMatch(path -> path.matches(request))
+                && MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    ROLE.toLowerCase(), null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,63 @@
+package com.docmate.notification.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Maintains the monthly partitions of {@code notifications}: creates the coming
+ * {@code months-ahead} months ahead of time and removes months older than
+ * {@code retention-months} whole, instead of deleting old notifications row by row. Removed
+ * months are dropped, or only detached when {@code keep-detached} is set so they can be exported
+ * before being dropped by hand.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPartitionMaintainer {
+
+    private final EntityManager entityManager;
+
+    @Value("${app.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.partitions.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.partitions.keep-detached:false}")
+    private boolean keepDetached;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.cron:0 0 2 * * *}")
+    public void maintain() {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            Object created = entityManager.createNativeQuery("SELECT create_monthly_partition('notifications', :month)")
+                    .setParameter("month", thisMonth.plusMonths(i))
+                    .getSingleResult();
+            if (created != null) {
+                log.info("Created notifications partition {}", created);
+            }
+        }
+
+        LocalDate before = thisMonth.minusMonths(retentionMonths);
+        Number removed = (Number) entityManager
+                .createNativeQuery("SELECT drop_expired_partitions('notifications', :before, false, :keepDetached)")
+                .setParameter("before", before)
+                .setParameter("keepDetached", keepDetached)
+                .getSingleResult();
+        if (removed.intValue() > 0) {
+            log.info("{} {} notifications partitions before {}",
+                    keepDetached ? "Detached" : "Dropped", removed, before);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.docmate.payment;
 
+import com.docmate.common.outbox.EnableOutbox;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableOutbox
 @EntityScan(basePackages = {"com.docmate.common.entity"})
 @EnableJpaRepositories(basePackages = {"com.docmate.payment.repository"})
 public class PaymentServiceApplication {
@@ -1,9 +1,11 @@
 package com.docmate.payment.service;
 
+import com.docmate.common.entity.CommonAppointment;
 import com.docmate.common.entity.Payment;
 import com.docmate.common.enums.PaymentStatus;
 import com.docmate.common.enums.PaymentMethod;
 import com.docmate.common.exception.BusinessException;
+import com.docmate.common.outbox.OutboxPublisher;
 import com.docmate.payment.dto.CreatePaymentRequest;
 import com.docmate.payment.dto.PaymentDto;
 import com.docmate.payment.mapper.PaymentMapper;
@@ -21,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -35,8 +38,12 @@ import static com.stripe.net.ApiResource.GSON;
 @Transactional
 public class PaymentService {
 
+    private static final String PAYMENT_AGGREGATE = "Payment";
+
     private final PaymentRepository paymentRepository;
     private final PaymentMapper paymentMapper;
+    private final OutboxPublisher outboxPublisher;
+    private final EntityManager entityManager;
 
     @Value("${stripe.api.key}")
     private String stripeApiKey;
@@ -72,6 +79,8 @@ public class PaymentService {
             // Create payment record
             //dummy
             Payment payment = Payment.builder()
+                    // Links the payment to the appointment or slot hold it pays for, as its events report
+                    .appointment(entityManager.getReference(CommonAppointment.class, request.getAppointmentId()))
                     .amount(request.getAmount())
                     .status(mapStripeStatusToPaymentStatus(paymentIntent.getStatus()))
                     .paymentMethod(String.valueOf(PaymentMethod.STRIPE))
@@ -81,7 +90,7 @@ public class PaymentService {
             payment = paymentRepository.save(payment);
 
             log.info("Payment intent created successfully with ID: {}", payment.getId());
-            return paymentMapper.toDto(payment);
+            return published("CREATED", payment);
 
         } catch (StripeException e) {
             log.error("Stripe error creating payment intent: {}", e.getMessage());
@@ -112,7 +121,7 @@ public class PaymentService {
             payment = paymentRepository.save(payment);
 
             log.info("Payment confirmed successfully with ID: {}", payment.getId());
-            return paymentMapper.toDto(payment);
+            return published(payment.getStatus().name(), payment);
 
         } catch (StripeException e) {
             log.error("Stripe error confirming payment: {}", e.getMessage());
@@ -144,7 +153,7 @@ public class PaymentService {
             payment = paymentRepository.save(payment);
 
             log.info("Refund processed successfully for payment: {}", paymentId);
-            return paymentMapper.toDto(payment);
+            return published(PaymentStatus.REFUNDED.name(), payment);
 
         } catch (StripeException e) {
             log.error("Stripe error processing refund: {}", e.getMessage());
@@ -214,6 +223,13 @@ public class PaymentService {
         return revenue != null ? revenue : 0.0;
     }
 
+    // Written in the same transaction as the payment change, and relayed once it commits
+    private PaymentDto published(String eventType, Payment payment) {
+        PaymentDto dto = paymentMapper.toDto(payment);
+        outboxPublisher.publish(PAYMENT_AGGREGATE, payment.getId(), eventType, dto);
+        return dto;
+    }
+
     private PaymentStatus mapStripeStatusToPaymentStatus(String stripeStatus) {
         return switch (stripeStatus) {
             case "succeeded" -> PaymentStatus.COMPLETED;
@@ -231,6 +247,7 @@ public class PaymentService {
                         payment.setStatus(PaymentStatus.COMPLETED);
                         payment.setTransactionId(paymentIntent.getId());
                         paymentRepository.save(payment);
+                        published(PaymentStatus.COMPLETED.name(), payment);
                         log.info("Payment marked as completed via webhook: {}", payment.getId());
                     });
         }
@@ -243,6 +260,7 @@ public class PaymentService {
                     .ifPresent(payment -> {
                         payment.setStatus(PaymentStatus.FAILED);
                         paymentRepository.save(payment);
+                        published(PaymentStatus.FAILED.name(), payment);
                         log.info("Payment marked as failed via webhook: {}", payment.getId());
                     });
         }
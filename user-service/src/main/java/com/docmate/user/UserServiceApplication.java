@@ -6,9 +6,11 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 @EntityScan(basePackages = {"com.docmate.common.entity"})
 @EnableJpaRepositories(basePackages = {"com.docmate.common.repository"})
 @ComponentScan(basePackages = {"com.docmate.user", "com.docmate.common"})
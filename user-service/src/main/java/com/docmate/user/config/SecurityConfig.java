@@ -1,9 +1,15 @@
 package com.docmate.user.config;
 
+import com.docmate.common.security.ServiceTokenFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 public class SecurityConfig {
@@ -12,4 +18,17 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
+
+    // Spring Boot's default chain, plus account status checks from appointment-service
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${app.service-token:}") String serviceToken) throws Exception {
+        http
+                .authorizeHttpRequests(authz -> authz.anyRequest().authenticated())
+                .addFilterBefore(new ServiceTokenFilter(serviceToken, "/api/doctors/*/status", "/api/patients/*/status"),
+                        BasicAuthenticationFilter.class)
+                .formLogin(Customizer.withDefaults())
+                .httpBasic(Customizer.withDefaults());
+        return http.build();
+    }
 }
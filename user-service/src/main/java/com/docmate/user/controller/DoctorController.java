@@ -1,12 +1,18 @@
 package com.docmate.user.controller;
 
 import com.docmate.common.dto.response.ApiResponse;
+import com.docmate.common.dto.response.FacetedPageResponse;
 import com.docmate.common.dto.response.PageResponse;
 import com.docmate.common.entity.User;
+import com.docmate.common.dto.AccountStatusDto;
 import com.docmate.common.dto.DoctorDto;
+import com.docmate.common.dto.DoctorSearchFacets;
 import com.docmate.common.dto.DoctorSearchResponse;
 import com.docmate.common.dto.DoctorStatsResponse;
+import com.docmate.common.dto.NearbyDoctorResponse;
 import com.docmate.common.dto.UpdateDoctorProfileRequest;
+import com.docmate.user.service.DoctorFacetService;
+import com.docmate.user.service.DoctorProximityService;
 import com.docmate.user.service.DoctorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -23,6 +29,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -34,15 +41,18 @@ import java.util.UUID;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final DoctorProximityService doctorProximityService;
+    private final DoctorFacetService doctorFacetService;
 
     @GetMapping("/search")
-    @Operation(summary = "Search doctors", description = "Search doctors with filters")
-    public ResponseEntity<PageResponse<DoctorSearchResponse>> searchDoctors(
+    @Operation(summary = "Search doctors", description = "Search doctors with filters, optionally with facet counts")
+    public ResponseEntity<FacetedPageResponse<DoctorSearchResponse, DoctorSearchFacets>> searchDoctors(
             @RequestParam(required = false) String query,
             @RequestParam(required = false) UUID specializationId,
             @RequestParam(required = false) UUID conditionId,
             @RequestParam(required = false) BigDecimal maxFee,
             @RequestParam(required = false) String consultationType,
+            @RequestParam(defaultValue = "false") boolean includeFacets,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
@@ -50,7 +60,29 @@ public class DoctorController {
         Page<DoctorSearchResponse> doctors = doctorService.searchDoctors(
                 query, specializationId, conditionId, maxFee, consultationType, pageable);
 
-        return ResponseEntity.ok(PageResponse.of(doctors));
+        DoctorSearchFacets facets = includeFacets
+                ? doctorFacetService.getSearchFacets(query, specializationId, conditionId, maxFee, consultationType)
+                : null;
+
+        return ResponseEntity.ok(FacetedPageResponse.of(PageResponse.of(doctors), facets));
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Search doctors near a location",
+            description = "Find doctors within a radius, or the nearest doctors when no radius is given")
+    public ResponseEntity<ApiResponse<List<NearbyDoctorResponse>>> searchNearbyDoctors(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) UUID specializationId,
+            @RequestParam(required = false) BigDecimal maxFee,
+            @RequestParam(required = false) String consultationType,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<NearbyDoctorResponse> doctors = doctorProximityService.findNearbyDoctors(
+                latitude, longitude, radiusKm, limit, specializationId, maxFee, consultationType);
+
+        return ResponseEntity.ok(ApiResponse.success(doctors));
     }
 
     @GetMapping("/me/profile")
@@ -97,6 +129,12 @@ public class DoctorController {
         return ResponseEntity.ok(ApiResponse.success(doctor));
     }
 
+    @GetMapping("/{doctorId}/status")
+    @Operation(summary = "Get doctor account status", description = "Get whether a doctor is approved and active, for booking checks")
+    public ResponseEntity<ApiResponse<AccountStatusDto>> getDoctorStatus(@PathVariable UUID doctorId) {
+        return ResponseEntity.ok(ApiResponse.success(doctorService.getDoctorStatus(doctorId)));
+    }
+
     @PutMapping("/{doctorId}")
     @Operation(summary = "Update doctor by ID", description = "Update doctor profile by ID (Admin only)")
     @PreAuthorize("hasRole('ADMIN')")
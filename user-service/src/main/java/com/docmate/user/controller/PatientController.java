@@ -3,6 +3,7 @@ package com.docmate.user.controller;
 import com.docmate.common.dto.response.ApiResponse;
 import com.docmate.common.dto.response.PageResponse;
 import com.docmate.common.entity.User;
+import com.docmate.common.dto.AccountStatusDto;
 import com.docmate.common.dto.PatientDto;
 import com.docmate.common.dto.PatientMedicalHistoryResponse;
 import com.docmate.common.dto.PatientReportResponse;
@@ -119,6 +120,12 @@ public class PatientController {
         return ResponseEntity.ok(ApiResponse.success(patient));
     }
 
+    @GetMapping("/{patientId}/status")
+    @Operation(summary = "Get patient account status", description = "Get whether a patient account is active, for booking checks")
+    public ResponseEntity<ApiResponse<AccountStatusDto>> getPatientStatus(@PathVariable UUID patientId) {
+        return ResponseEntity.ok(ApiResponse.success(patientService.getPatientStatus(patientId)));
+    }
+
     @GetMapping
     @Operation(summary = "Get all patients", description = "Get all patients with pagination (Admin only)")
     @PreAuthorize("hasRole('ADMIN')")
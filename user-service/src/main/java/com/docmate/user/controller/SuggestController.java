@@ -0,0 +1,32 @@
+package com.docmate.user.controller;
+
+import com.docmate.common.dto.SuggestionDto;
+import com.docmate.common.dto.response.ApiResponse;
+import com.docmate.user.service.SuggestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+@Tag(name = "Search Suggestions", description = "Typeahead suggestions for doctors, specializations and conditions")
+public class SuggestController {
+
+    private final SuggestionService suggestionService;
+
+    @GetMapping
+    @Operation(summary = "Suggest completions", description = "Top completions across doctor names, specializations and conditions")
+    public ResponseEntity<ApiResponse<List<SuggestionDto>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(suggestionService.suggest(q, limit)));
+    }
+}
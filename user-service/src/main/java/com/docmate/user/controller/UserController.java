@@ -19,6 +19,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -146,6 +147,16 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(doctors));
     }
 
+    @GetMapping("/users/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Search users", description = "Fuzzy search users by name, email or phone, best matches first (admins only)")
+    public ResponseEntity<ApiResponse<List<UserDto>>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(ApiResponse.success(userService.searchUsers(q, limit)));
+    }
+
     // Statistics endpoints
     @GetMapping("/users/stats")
     @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,192 @@
+package com.docmate.user.search;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory grid index over the coordinates of approved doctors' primary addresses.
+ * Points are bucketed into fixed-size latitude/longitude cells so that radius and
+ * k-nearest queries only visit the cells overlapping the search circle.
+ */
+@Component
+public class DoctorGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    // 0.05 degrees is ~5.5km, so a 10km radius touches at most a 5x5 block of cells
+    private static final double CELL_DEGREES = 0.05;
+    private static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int LON_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private static final double MAX_NEAREST_RADIUS_KM = 500.0;
+
+    // Writers are serialized; readers never lock and see either the old or the new map pair
+    private volatile Map<UUID, GeoEntry> entries = new ConcurrentHashMap<>();
+    private volatile Map<Long, Map<UUID, GeoEntry>> cells = new ConcurrentHashMap<>();
+
+    public synchronized void upsert(GeoEntry entry) {
+        put(entries, cells, entry);
+    }
+
+    public synchronized void remove(UUID doctorId) {
+        GeoEntry previous = entries.remove(doctorId);
+        if (previous != null) {
+            removeFromCell(cells, previous);
+        }
+    }
+
+    public synchronized void replaceAll(Collection<GeoEntry> snapshot) {
+        Map<UUID, GeoEntry> newEntries = new ConcurrentHashMap<>();
+        Map<Long, Map<UUID, GeoEntry>> newCells = new ConcurrentHashMap<>();
+        snapshot.forEach(entry -> put(newEntries, newCells, entry));
+        cells = newCells;
+        entries = newEntries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns up to {@code limit} entries within {@code radiusKm} of the given point, closest first.
+     */
+    public List<GeoMatch> withinRadius(double latitude, double longitude, double radiusKm,
+                                       Predicate<GeoEntry> filter, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // Max-heap of the closest matches seen so far, so dense areas never sort every hit
+        PriorityQueue<GeoMatch> closest = new PriorityQueue<>(
+                Comparator.comparingDouble(GeoMatch::distanceKm).reversed());
+        for (Map<UUID, GeoEntry> cell : candidateCells(latitude, longitude, radiusKm)) {
+            for (GeoEntry entry : cell.values()) {
+                if (!filter.test(entry)) {
+                    continue;
+                }
+                double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                if (distance > radiusKm) {
+                    continue;
+                }
+                if (closest.size() < limit) {
+                    closest.add(new GeoMatch(entry.doctorId(), distance));
+                } else if (distance < closest.peek().distanceKm()) {
+                    closest.poll();
+                    closest.add(new GeoMatch(entry.doctorId(), distance));
+                }
+            }
+        }
+        List<GeoMatch> matches = new ArrayList<>(closest);
+        matches.sort(Comparator.comparingDouble(GeoMatch::distanceKm));
+        return matches;
+    }
+
+    /**
+     * Returns the {@code k} entries closest to the given point by widening the search radius
+     * until enough matches are found. Every entry inside the final radius is examined, so the
+     * result is exact rather than approximate.
+     */
+    public List<GeoMatch> nearest(double latitude, double longitude, int k, Predicate<GeoEntry> filter) {
+        double radiusKm = CELL_DEGREES * KM_PER_DEGREE;
+        while (true) {
+            List<GeoMatch> matches = withinRadius(latitude, longitude, radiusKm, filter, k);
+            if (matches.size() >= k || radiusKm >= MAX_NEAREST_RADIUS_KM) {
+                return matches;
+            }
+            radiusKm = Math.min(radiusKm * 2, MAX_NEAREST_RADIUS_KM);
+        }
+    }
+
+    private Collection<Map<UUID, GeoEntry>> candidateCells(double latitude, double longitude, double radiusKm) {
+        Map<Long, Map<UUID, GeoEntry>> cells = this.cells;
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double lonDelta = radiusKm / (KM_PER_DEGREE * cosLat);
+
+        int minLat = latIndex(Math.max(-90.0, latitude - latDelta));
+        int maxLat = latIndex(Math.min(90.0, latitude + latDelta));
+        int lonStart = (int) Math.floor((longitude - lonDelta + 180.0) / CELL_DEGREES);
+        int lonEnd = (int) Math.floor((longitude + lonDelta + 180.0) / CELL_DEGREES);
+        int lonCount = Math.min(lonEnd - lonStart + 1, LON_CELLS);
+
+        // Walking the bounding box is pointless once it covers more cells than are populated
+        if ((long) (maxLat - minLat + 1) * lonCount >= cells.size()) {
+            return cells.values();
+        }
+
+        List<Map<UUID, GeoEntry>> candidates = new ArrayList<>();
+        for (int lat = minLat; lat <= maxLat; lat++) {
+            for (int i = 0; i < lonCount; i++) {
+                Map<UUID, GeoEntry> cell = cells.get(cellKey(lat, Math.floorMod(lonStart + i, LON_CELLS)));
+                if (cell != null) {
+                    candidates.add(cell);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static void put(Map<UUID, GeoEntry> entries, Map<Long, Map<UUID, GeoEntry>> cells, GeoEntry entry) {
+        GeoEntry previous = entries.put(entry.doctorId(), entry);
+        if (previous != null) {
+            removeFromCell(cells, previous);
+        }
+        cells.computeIfAbsent(cellKey(entry.latitude(), entry.longitude()), key -> new ConcurrentHashMap<>())
+                .put(entry.doctorId(), entry);
+    }
+
+    private static void removeFromCell(Map<Long, Map<UUID, GeoEntry>> cells, GeoEntry entry) {
+        cells.computeIfPresent(cellKey(entry.latitude(), entry.longitude()), (key, cell) -> {
+            cell.remove(entry.doctorId());
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(latIndex(latitude), lonIndex(longitude));
+    }
+
+    private static long cellKey(int latIndex, int lonIndex) {
+        return ((long) latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+
+    private static int latIndex(double latitude) {
+        int index = (int) Math.floor((latitude + 90.0) / CELL_DEGREES);
+        return Math.min(Math.max(index, 0), LAT_CELLS - 1);
+    }
+
+    private static int lonIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / CELL_DEGREES), LON_CELLS);
+    }
+
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public record GeoEntry(UUID doctorId,
+                           double latitude,
+                           double longitude,
+                           UUID specializationId,
+                           BigDecimal feePerConsultation,
+                           boolean videoConsultationEnabled,
+                           boolean teleConsultationEnabled) {
+    }
+
+    public record GeoMatch(UUID doctorId, double distanceKm) {
+    }
+}
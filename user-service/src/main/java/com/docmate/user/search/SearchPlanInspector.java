@@ -0,0 +1,90 @@
+package com.docmate.user.search;
+
+import com.docmate.common.dto.DoctorSearchCriteria;
+import com.docmate.common.entity.Condition;
+import com.docmate.common.entity.Specialization;
+import com.docmate.common.repository.ConditionRepository;
+import com.docmate.common.repository.DoctorRepository;
+import com.docmate.common.repository.SpecializationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs EXPLAIN for the common doctor search filter combinations on startup and reports whether
+ * Postgres picks the index each combination is meant to use. Enable with
+ * {@code app.search.explain.enabled=true} against a database with production-like data; on a
+ * nearly empty database the planner rightly prefers sequential scans.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.explain.enabled", havingValue = "true")
+public class SearchPlanInspector {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    private final DoctorRepository doctorRepository;
+    private final SpecializationRepository specializationRepository;
+    private final ConditionRepository conditionRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void inspect() {
+        UUID specializationId = specializationRepository.findAllByIsActiveTrue().stream()
+                .map(Specialization::getId).findFirst().orElse(null);
+        UUID conditionId = conditionRepository.findAllByIsActiveTrue().stream()
+                .map(Condition::getId).findFirst().orElse(null);
+
+        Map<String, ExpectedPlan> shapes = new LinkedHashMap<>();
+        shapes.put("no filters", new ExpectedPlan(
+                DoctorSearchCriteria.builder().build(), "idx_doctors_search_rank"));
+        shapes.put("max fee", new ExpectedPlan(
+                DoctorSearchCriteria.builder().maxFee(BigDecimal.valueOf(50)).build(), "idx_doctors_search_"));
+        shapes.put("consultation type", new ExpectedPlan(
+                DoctorSearchCriteria.builder().consultationType("VIDEO").build(), "idx_doctors_search_rank"));
+        if (specializationId != null) {
+            shapes.put("specialization", new ExpectedPlan(
+                    DoctorSearchCriteria.builder().specializationId(specializationId).build(),
+                    "idx_doctors_search_specialization"));
+            shapes.put("specialization and max fee", new ExpectedPlan(
+                    DoctorSearchCriteria.builder().specializationId(specializationId)
+                            .maxFee(BigDecimal.valueOf(100)).build(),
+                    "idx_doctors_search_specialization"));
+        }
+        if (conditionId != null) {
+            shapes.put("condition", new ExpectedPlan(
+                    DoctorSearchCriteria.builder().conditionId(conditionId).build(),
+                    "idx_doctor_conditions_condition_id"));
+        }
+
+        shapes.forEach(this::inspect);
+    }
+
+    private void inspect(String shape, ExpectedPlan expected) {
+        try {
+            List<String> plan = doctorRepository.explainSearch(expected.criteria(), FIRST_PAGE);
+            String text = String.join("\n", plan);
+            if (text.contains(expected.index())) {
+                log.info("Doctor search [{}] uses {}:\n{}", shape, expected.index(), text);
+            } else {
+                log.warn("Doctor search [{}] does not use {}:\n{}", shape, expected.index(), text);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to explain doctor search [{}]: {}", shape, e.getMessage());
+        }
+    }
+
+    private record ExpectedPlan(DoctorSearchCriteria criteria, String index) {
+    }
+}
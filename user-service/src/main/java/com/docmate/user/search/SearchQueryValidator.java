@@ -0,0 +1,83 @@
+package com.docmate.user.search;
+
+import com.docmate.common.dto.DoctorSearchCriteria;
+import com.docmate.common.enums.ConsultationMode;
+import com.docmate.common.repository.DoctorRepository;
+import com.docmate.common.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Checks every filter combination of the doctor and user search queries against the database on
+ * startup. The statements are assembled from predicate strings, so a misspelt column, attribute
+ * or parameter would otherwise only fail once a request first uses that combination. Doctor
+ * search statements are planned with EXPLAIN, user search JPQL is compiled by Hibernate; neither
+ * runs. Startup fails on the first combination that does not validate.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.validate-queries", havingValue = "true", matchIfMissing = true)
+public class SearchQueryValidator {
+
+    // Any other consultation type takes its own branch of the doctor search filter
+    private static final String[] CONSULTATION_TYPES = {null, "VIDEO", "TELE", "OTHER"};
+
+    private final DoctorRepository doctorRepository;
+    private final UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        int doctorShapes = 0;
+        for (int mask = 0; mask < 1 << 4; mask++) {
+            for (String consultationType : CONSULTATION_TYPES) {
+                DoctorSearchCriteria criteria = DoctorSearchCriteria.builder()
+                        .query(has(mask, 0) ? "a" : null)
+                        .specializationId(has(mask, 1) ? UUID.randomUUID() : null)
+                        .conditionId(has(mask, 2) ? UUID.randomUUID() : null)
+                        .maxFee(has(mask, 3) ? BigDecimal.TEN : null)
+                        .consultationType(consultationType)
+                        .build();
+                try {
+                    doctorRepository.validateQueries(criteria);
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Invalid doctor search statement for " + criteria, e);
+                }
+                doctorShapes++;
+            }
+        }
+
+        ConsultationMode[] modes = Arrays.copyOf(ConsultationMode.values(), ConsultationMode.values().length + 1);
+        int userShapes = 0;
+        for (int mask = 0; mask < 1 << 5; mask++) {
+            for (ConsultationMode mode : modes) {
+                try {
+                    userRepository.validateDoctorFilterQueries(
+                            has(mask, 0) ? "a" : null,
+                            has(mask, 1) ? "a" : null,
+                            has(mask, 2) ? "a" : null,
+                            has(mask, 3) ? BigDecimal.TEN : null,
+                            mode,
+                            has(mask, 4) ? Boolean.TRUE : null);
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Invalid user search statement for filter mask " + mask
+                            + " and consultation mode " + mode, e);
+                }
+                userShapes++;
+            }
+        }
+        log.info("Validated {} doctor search and {} user search filter combinations", doctorShapes, userShapes);
+    }
+
+    private static boolean has(int mask, int bit) {
+        return (mask & 1 << bit) != 0;
+    }
+}
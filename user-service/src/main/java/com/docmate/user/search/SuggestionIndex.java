@@ -0,0 +1,188 @@
+package com.docmate.user.search;
+
+import com.docmate.common.enums.SuggestionType;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index for typeahead suggestions.
+ * <p>
+ * All keys live in one sorted array, which is a flattened trie: the keys sharing a prefix form a
+ * contiguous range located with two binary searches. Every word of a suggestion starts a key, so
+ * "smi" finds "John Smith". Suggestions are stored in rank order, which makes the best matches
+ * for a range simply its smallest distinct suggestion ordinals. Prefixes matching more than
+ * {@link #SCAN_LIMIT} keys have their top suggestions precomputed, so no lookup scans more than
+ * that many keys.
+ */
+public final class SuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final int SCAN_LIMIT = 256;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<Suggestion> RANK = Comparator
+            .comparingInt(Suggestion::weight).reversed()
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::text);
+
+    private final Suggestion[] suggestions;
+    private final String[] keys;
+    private final int[] keyTargets;
+    private final Map<String, int[]> heavyPrefixes;
+
+    private SuggestionIndex(Suggestion[] suggestions, String[] keys, int[] keyTargets,
+                            Map<String, int[]> heavyPrefixes) {
+        this.suggestions = suggestions;
+        this.keys = keys;
+        this.keyTargets = keyTargets;
+        this.heavyPrefixes = heavyPrefixes;
+    }
+
+    public static SuggestionIndex empty() {
+        return new SuggestionIndex(new Suggestion[0], new String[0], new int[0], Map.of());
+    }
+
+    public static SuggestionIndex build(List<Suggestion> source) {
+        Suggestion[] suggestions = source.stream()
+                .filter(suggestion -> suggestion.text() != null && !suggestion.text().isBlank())
+                .sorted(RANK)
+                .toArray(Suggestion[]::new);
+
+        List<KeyEntry> entries = new ArrayList<>();
+        for (int ordinal = 0; ordinal < suggestions.length; ordinal++) {
+            String normalized = normalize(suggestions[ordinal].text());
+            for (int start = 0; start < normalized.length(); start++) {
+                if (start == 0 || normalized.charAt(start - 1) == ' ') {
+                    String key = normalized.substring(start);
+                    entries.add(new KeyEntry(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key, ordinal));
+                }
+            }
+        }
+        entries.sort(Comparator.comparing(KeyEntry::key).thenComparingInt(KeyEntry::ordinal));
+
+        String[] keys = new String[entries.size()];
+        int[] keyTargets = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).key();
+            keyTargets[i] = entries.get(i).ordinal();
+        }
+
+        return new SuggestionIndex(suggestions, keys, keyTargets, precomputeHeavyPrefixes(keys, keyTargets));
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(keys, normalized);
+        int to = lowerBound(keys, normalized + Character.MAX_VALUE);
+        int[] ordinals = to - from > SCAN_LIMIT ? heavyPrefixes.get(normalized) : null;
+        if (ordinals == null) {
+            ordinals = smallestDistinct(keyTargets, from, to, Math.min(limit, MAX_SUGGESTIONS));
+        }
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, ordinals.length));
+        for (int i = 0; i < ordinals.length && i < limit; i++) {
+            result.add(suggestions[ordinals[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Walks prefix lengths upward; once no group of a given length is heavy, no longer one can be
+    private static Map<String, int[]> precomputeHeavyPrefixes(String[] keys, int[] keyTargets) {
+        Map<String, int[]> heavy = new HashMap<>();
+        for (int length = 1; ; length++) {
+            boolean found = false;
+            int i = 0;
+            while (i < keys.length) {
+                if (keys[i].length() < length) {
+                    i++;
+                    continue;
+                }
+                String prefix = keys[i].substring(0, length);
+                int j = i + 1;
+                while (j < keys.length && keys[j].startsWith(prefix)) {
+                    j++;
+                }
+                if (j - i > SCAN_LIMIT) {
+                    heavy.put(prefix, smallestDistinct(keyTargets, i, j, MAX_SUGGESTIONS));
+                    found = true;
+                }
+                i = j;
+            }
+            if (!found) {
+                return heavy;
+            }
+        }
+    }
+
+    private static int[] smallestDistinct(int[] values, int from, int to, int limit) {
+        int[] best = new int[limit];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int value = values[i];
+            if (count == limit && value >= best[limit - 1]) {
+                continue;
+            }
+            int position = Arrays.binarySearch(best, 0, count, value);
+            if (position >= 0) {
+                continue;
+            }
+            position = -position - 1;
+            int moved = Math.min(count, limit - 1) - position;
+            if (moved > 0) {
+                System.arraycopy(best, position, best, position + 1, moved);
+            }
+            best[position] = value;
+            count = Math.min(count + 1, limit);
+        }
+        return Arrays.copyOf(best, count);
+    }
+
+    private static int lowerBound(String[] keys, String target) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record Suggestion(SuggestionType type, UUID id, String text, int weight) {
+    }
+
+    private record KeyEntry(String key, int ordinal) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.docmate.user.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Small size-bounded LRU cache whose entries expire after a fixed time-to-live.
+ */
+public class TtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+    // Moved on by every clear; guarded by entries
+    private long generation;
+
+    public TtlCache(int maxEntries, long ttlMillis) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for {@code key}, computing it outside the lock when absent or expired.
+     * A value whose computation overlapped a {@link #clear} may predate it, so it is returned but not kept.
+     */
+    public V get(K key, Supplier<V> loader) {
+        long now = System.nanoTime();
+        long loadGeneration;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                return entry.value();
+            }
+            loadGeneration = generation;
+        }
+
+        V value = loader.get();
+        synchronized (entries) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            }
+        }
+        return value;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            generation++;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.docmate.user.service;
+
+import com.docmate.common.dto.DoctorFacetCountView;
+import com.docmate.common.dto.DoctorSearchCriteria;
+import com.docmate.common.dto.DoctorSearchFacets;
+import com.docmate.common.dto.FacetCountDto;
+import com.docmate.common.repository.DoctorRepository;
+import com.docmate.user.search.TtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DoctorFacetService {
+
+    // Must match the bucket labels produced by DoctorSearchRepository.countSearchFacets
+    private static final List<String> FEE_BUCKETS = List.of("0-50", "50-100", "100-200", "200+");
+
+    private final DoctorRepository doctorRepository;
+
+    @Value("${app.search.facets.cache-ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.search.facets.cache-max-entries:1000}")
+    private int cacheMaxEntries;
+
+    private TtlCache<FacetKey, DoctorSearchFacets> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = new TtlCache<>(cacheMaxEntries, cacheTtlSeconds * 1000);
+    }
+
+    @Transactional(readOnly = true)
+    public DoctorSearchFacets getSearchFacets(String query, UUID specializationId, UUID conditionId,
+                                              BigDecimal maxFee, String consultationType) {
+        FacetKey key = new FacetKey(
+                query != null ? query.trim().toLowerCase(Locale.ROOT) : null,
+                specializationId,
+                conditionId,
+                maxFee != null ? maxFee.stripTrailingZeros() : null,
+                consultationType);
+
+        return cache.get(key, () -> loadFacets(key));
+    }
+
+    public void evictAll() {
+        cache.clear();
+    }
+
+    private DoctorSearchFacets loadFacets(FacetKey key) {
+        log.debug("Computing doctor search facets for {}", key);
+
+        List<DoctorFacetCountView> rows = doctorRepository.countSearchFacets(DoctorSearchCriteria.builder()
+                .query(key.query())
+                .specializationId(key.specializationId())
+                .conditionId(key.conditionId())
+                .maxFee(key.maxFee())
+                .consultationType(key.consultationType())
+                .build());
+
+        DoctorSearchFacets facets = new DoctorSearchFacets();
+        for (DoctorFacetCountView row : rows) {
+            long count = row.getCount() != null ? row.getCount() : 0L;
+            FacetCountDto facetCount = FacetCountDto.builder()
+                    .value(row.getValue())
+                    .label(row.getLabel())
+                    .count(count)
+                    .build();
+
+            switch (row.getFacet()) {
+                case "TOTAL" -> facets.setTotal(count);
+                case "SPECIALIZATION" -> facets.getSpecializations().add(facetCount);
+                case "CONDITION" -> facets.getConditions().add(facetCount);
+                case "FEE" -> facets.getFeeRanges().add(facetCount);
+                case "CONSULTATION_TYPE" -> facets.getConsultationTypes().add(facetCount);
+                default -> log.warn("Ignoring unknown facet: {}", row.getFacet());
+            }
+        }
+
+        Comparator<FacetCountDto> byCountDesc = Comparator.comparingLong(FacetCountDto::getCount).reversed();
+        facets.getSpecializations().sort(byCountDesc);
+        facets.getConditions().sort(byCountDesc);
+        facets.getFeeRanges().sort(Comparator.comparingInt(bucket -> FEE_BUCKETS.indexOf(bucket.getValue())));
+        return facets;
+    }
+
+    private record FacetKey(String query, UUID specializationId, UUID conditionId,
+                            BigDecimal maxFee, String consultationType) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.docmate.user.service;
+
+import com.docmate.common.dto.DoctorLocationDto;
+import com.docmate.common.dto.DoctorSearchResponse;
+import com.docmate.common.dto.NearbyDoctorResponse;
+import com.docmate.common.entity.Address;
+import com.docmate.common.entity.Doctor;
+import com.docmate.common.exception.BusinessException;
+import com.docmate.common.repository.DoctorRepository;
+import com.docmate.user.search.DoctorGeoIndex;
+import com.docmate.user.search.DoctorGeoIndex.GeoEntry;
+import com.docmate.user.search.DoctorGeoIndex.GeoMatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DoctorProximityService {
+
+    private static final int MAX_RESULTS = 100;
+    private static final double MAX_RADIUS_KM = 200.0;
+
+    private final DoctorRepository doctorRepository;
+    private final DoctorGeoIndex doctorGeoIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        List<GeoEntry> entries = doctorRepository.findApprovedDoctorLocations().stream()
+                .map(this::toEntry)
+                .toList();
+        doctorGeoIndex.replaceAll(entries);
+        log.info("Doctor geo index built with {} doctors", entries.size());
+    }
+
+    @Transactional(readOnly = true)
+    public List<NearbyDoctorResponse> findNearbyDoctors(double latitude, double longitude, Double radiusKm, int limit,
+                                                        UUID specializationId, BigDecimal maxFee,
+                                                        String consultationType) {
+        log.info("Searching doctors near ({}, {}) within {} km, specializationId: {}, maxFee: {}, consultationType: {}",
+                latitude, longitude, radiusKm, specializationId, maxFee, consultationType);
+
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BusinessException("INVALID_LOCATION", "Latitude must be within [-90, 90] and longitude within [-180, 180]", 400);
+        }
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM)) {
+            throw new BusinessException("INVALID_RADIUS", "Radius must be between 0 and " + MAX_RADIUS_KM + " km", 400);
+        }
+
+        int k = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        Predicate<GeoEntry> filter = filter(specializationId, maxFee, consultationType);
+        List<GeoMatch> matches = radiusKm != null
+                ? doctorGeoIndex.withinRadius(latitude, longitude, radiusKm, filter, k)
+                : doctorGeoIndex.nearest(latitude, longitude, k, filter);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, DoctorSearchResponse> doctors = doctorRepository.findSearchResponsesByIds(
+                        matches.stream().map(GeoMatch::doctorId).toList()).stream()
+                .collect(Collectors.toMap(DoctorSearchResponse::getId, Function.identity(), (a, b) -> a));
+
+        List<NearbyDoctorResponse> results = new ArrayList<>(matches.size());
+        for (GeoMatch match : matches) {
+            DoctorSearchResponse doctor = doctors.get(match.doctorId());
+            // The index may briefly lag a deactivation that has not committed yet
+            if (doctor != null) {
+                results.add(NearbyDoctorResponse.builder()
+                        .doctor(doctor)
+                        .distanceKm(match.distanceKm())
+                        .build());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Re-indexes a doctor after its profile, approval state or primary address changed.
+     * Must be called inside the transaction that modified the doctor; the index is only
+     * touched once that transaction commits.
+     */
+    public void refresh(Doctor doctor) {
+        UUID doctorId = doctor.getId();
+        Address address = doctor.getPrimaryAddress();
+        boolean indexable = Boolean.TRUE.equals(doctor.getIsApproved())
+                && Boolean.TRUE.equals(doctor.getIsActive())
+                && address != null && address.getLatitude() != null && address.getLongitude() != null;
+
+        GeoEntry entry = indexable ? new GeoEntry(
+                doctorId,
+                address.getLatitude().doubleValue(),
+                address.getLongitude().doubleValue(),
+                doctor.getSpecialization() != null ? doctor.getSpecialization().getId() : null,
+                doctor.getFeePerConsultation(),
+                Boolean.TRUE.equals(doctor.getVideoConsultationEnabled()),
+                Boolean.TRUE.equals(doctor.getTeleConsultationEnabled())) : null;
+
+        afterCommit(() -> {
+            if (entry != null) {
+                doctorGeoIndex.upsert(entry);
+            } else {
+                doctorGeoIndex.remove(doctorId);
+            }
+        });
+    }
+
+    private GeoEntry toEntry(DoctorLocationDto location) {
+        return new GeoEntry(
+                location.getDoctorId(),
+                location.getLatitude().doubleValue(),
+                location.getLongitude().doubleValue(),
+                location.getSpecializationId(),
+                location.getFeePerConsultation(),
+                Boolean.TRUE.equals(location.getVideoConsultationEnabled()),
+                Boolean.TRUE.equals(location.getTeleConsultationEnabled()));
+    }
+
+    // Mirrors the filter semantics of DoctorSearchRepository.searchDoctors
+    private Predicate<GeoEntry> filter(UUID specializationId, BigDecimal maxFee, String consultationType) {
+        Predicate<GeoEntry> filter = entry -> true;
+        if (specializationId != null) {
+            filter = filter.and(entry -> specializationId.equals(entry.specializationId()));
+        }
+        if (maxFee != null) {
+            filter = filter.and(entry -> entry.feePerConsultation() != null
+                    && entry.feePerConsultation().compareTo(maxFee) <= 0);
+        }
+        if (consultationType != null) {
+            filter = filter.and(entry -> ("VIDEO".equals(consultationType) && entry.videoConsultationEnabled())
+                    || ("TELE".equals(consultationType) && entry.teleConsultationEnabled()));
+        }
+        return filter;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
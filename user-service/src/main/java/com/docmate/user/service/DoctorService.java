@@ -1,12 +1,16 @@
 package com.docmate.user.service;
 
+import com.docmate.common.entity.Address;
 import com.docmate.common.entity.Doctor;
 import com.docmate.common.entity.User;
 import com.docmate.common.exception.BusinessException;
+import com.docmate.common.dto.AccountStatusDto;
 import com.docmate.common.dto.DoctorDto;
+import com.docmate.common.dto.DoctorSearchCriteria;
 import com.docmate.common.dto.DoctorSearchResponse;
 import com.docmate.common.dto.DoctorStatsResponse;
 import com.docmate.common.dto.UpdateDoctorProfileRequest;
+import com.docmate.common.util.TransactionCallbacks;
 import com.docmate.user.mapper.DoctorMapper;
 import com.docmate.common.repository.DoctorRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +31,9 @@ public class DoctorService {
 
     private final DoctorRepository doctorRepository;
     private final DoctorMapper doctorMapper;
+    private final DoctorProximityService doctorProximityService;
+    private final DoctorFacetService doctorFacetService;
+    private final SuggestionService suggestionService;
 
     public DoctorDto createDoctorProfile(DoctorDto doctorDto, User user) {
         log.info("Creating doctor profile for user: {}", user.getEmail());
@@ -43,6 +50,7 @@ public class DoctorService {
         doctor.setIsActive(true);
 
         doctor = doctorRepository.save(doctor);
+        onDoctorChanged(doctor);
 
         log.info("Doctor profile created successfully for user: {} - Pending approval", user.getEmail());
         return doctorMapper.toDto(doctor);
@@ -58,6 +66,18 @@ public class DoctorService {
         return doctorMapper.toDto(doctor);
     }
 
+    @Transactional(readOnly = true)
+    public AccountStatusDto getDoctorStatus(UUID doctorId) {
+        Doctor doctor = doctorRepository.findByIdWithUser(doctorId)
+                .orElseThrow(() -> new BusinessException("DOCTOR_NOT_FOUND", "Doctor not found", 404));
+
+        return AccountStatusDto.builder()
+                .id(doctor.getId())
+                .active(Boolean.TRUE.equals(doctor.getIsActive()) && Boolean.TRUE.equals(doctor.getUser().getIsActive()))
+                .approved(Boolean.TRUE.equals(doctor.getIsApproved()))
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public DoctorDto getDoctorByEmail(String email) {
         log.info("Fetching doctor profile by email: {}", email);
@@ -103,8 +123,12 @@ public class DoctorService {
         if (request.getEmergencyAvailable() != null) {
             existingDoctor.setEmergencyAvailable(request.getEmergencyAvailable());
         }
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            updatePrimaryAddressCoordinates(existingDoctor, request);
+        }
 
         existingDoctor = doctorRepository.save(existingDoctor);
+        onDoctorChanged(existingDoctor);
 
         log.info("Doctor profile updated successfully for ID: {}", doctorId);
         return doctorMapper.toDto(existingDoctor);
@@ -122,6 +146,7 @@ public class DoctorService {
 
         doctor.setIsApproved(true);
         doctor = doctorRepository.save(doctor);
+        onDoctorChanged(doctor);
 
         log.info("Doctor profile approved successfully for ID: {}", doctorId);
         return doctorMapper.toDto(doctor);
@@ -136,6 +161,7 @@ public class DoctorService {
         doctor.setIsApproved(false);
         doctor.setIsActive(false);
         doctor = doctorRepository.save(doctor);
+        onDoctorChanged(doctor);
 
         log.info("Doctor profile rejected for ID: {}", doctorId);
         return doctorMapper.toDto(doctor);
@@ -171,7 +197,14 @@ public class DoctorService {
         log.info("Searching doctors with query: {}, specializationId: {}, conditionId: {}, maxFee: {}, consultationType: {}",
                 query, specializationId, conditionId, maxFee, consultationType);
 
-        return doctorRepository.searchDoctors(query, specializationId, conditionId, maxFee, consultationType, pageable);
+        DoctorSearchCriteria criteria = DoctorSearchCriteria.builder()
+                .query(query)
+                .specializationId(specializationId)
+                .conditionId(conditionId)
+                .maxFee(maxFee)
+                .consultationType(consultationType)
+                .build();
+        return doctorRepository.searchDoctors(criteria, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -206,10 +239,33 @@ public class DoctorService {
         // Soft delete by setting inactive
         doctor.setIsActive(false);
         doctorRepository.save(doctor);
+        onDoctorChanged(doctor);
 
         log.info("Doctor deleted (deactivated) successfully for ID: {}", doctorId);
     }
 
+    private void onDoctorChanged(Doctor doctor) {
+        doctorProximityService.refresh(doctor);
+        // Evicted once committed, so a concurrent search cannot cache the counts from before the change,
+        // and marked stale once committed, so a refresh in between cannot rebuild from the old rows
+        TransactionCallbacks.afterCommit(doctorFacetService::evictAll);
+        TransactionCallbacks.afterCommit(suggestionService::markStale);
+    }
+
+    private void updatePrimaryAddressCoordinates(Doctor doctor, UpdateDoctorProfileRequest request) {
+        if (request.getLatitude() == null || request.getLongitude() == null) {
+            throw new BusinessException("INVALID_COORDINATES", "Latitude and longitude must be provided together", 400);
+        }
+
+        Address address = doctor.getPrimaryAddress();
+        if (address == null) {
+            throw new BusinessException("ADDRESS_NOT_FOUND", "Doctor has no primary address to update", 400);
+        }
+
+        address.setLatitude(request.getLatitude());
+        address.setLongitude(request.getLongitude());
+    }
+
     @Transactional(readOnly = true)
     public long getApprovedDoctorCount() {
         return doctorRepository.countByIsApprovedTrueAndIsActiveTrue();
@@ -41,6 +41,17 @@ public class PatientService {
         return patientMapper.toProfileDto(patient);
     }
 
+    @Transactional(readOnly = true)
+    public AccountStatusDto getPatientStatus(UUID patientId) {
+        Patient patient = patientRepository.findByIdWithUser(patientId)
+            .orElseThrow(() -> new BusinessException("PATIENT_NOT_FOUND", "Patient not found with ID: " + patientId, 404));
+
+        return AccountStatusDto.builder()
+            .id(patient.getId())
+            .active(Boolean.TRUE.equals(patient.getUser().getIsActive()))
+            .build();
+    }
+
     public PatientProfileDto getPatientByEmail(String email) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new BusinessException("USER_NOT_FOUND", "User not found with email: " + email, 404));
@@ -0,0 +1,92 @@
+package com.docmate.user.service;
+
+import com.docmate.common.dto.SuggestionDto;
+import com.docmate.common.enums.SuggestionType;
+import com.docmate.common.repository.ConditionRepository;
+import com.docmate.common.repository.DoctorRepository;
+import com.docmate.common.repository.SpecializationRepository;
+import com.docmate.user.search.SuggestionIndex;
+import com.docmate.user.search.SuggestionIndex.Suggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestionService {
+
+    // Taxonomy terms outrank doctor names; doctors are ranked by review count
+    private static final int SPECIALIZATION_WEIGHT = 1_000_000;
+    private static final int CONDITION_WEIGHT = 500_000;
+
+    private final DoctorRepository doctorRepository;
+    private final SpecializationRepository specializationRepository;
+    private final ConditionRepository conditionRepository;
+
+    @Value("${app.search.suggest.max-age-ms:900000}")
+    private long maxAgeMs;
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile SuggestionIndex index = SuggestionIndex.empty();
+    private volatile long builtAt;
+
+    public List<SuggestionDto> suggest(String query, int limit) {
+        int max = Math.min(Math.max(limit, 1), SuggestionIndex.MAX_SUGGESTIONS);
+        return index.suggest(query, max).stream()
+                .map(suggestion -> SuggestionDto.builder()
+                        .type(suggestion.type())
+                        .id(suggestion.id())
+                        .text(suggestion.text())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Flags the index for rebuilding on the next refresh cycle.
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.suggest.refresh-interval-ms:30000}",
+            initialDelayString = "${app.search.suggest.refresh-interval-ms:30000}")
+    public void refreshIfStale() {
+        // Specializations and conditions are edited in taxonomy-service, so rebuild periodically too
+        boolean expired = System.currentTimeMillis() - builtAt > maxAgeMs;
+        if (stale.getAndSet(false) || expired) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                stale.set(true);
+                log.error("Failed to rebuild suggestion index", e);
+            }
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Suggestion> suggestions = new ArrayList<>();
+
+        specializationRepository.findAllByIsActiveTrue().forEach(specialization -> suggestions.add(
+                new Suggestion(SuggestionType.SPECIALIZATION, specialization.getId(), specialization.getName(), SPECIALIZATION_WEIGHT)));
+        conditionRepository.findAllByIsActiveTrue().forEach(condition -> suggestions.add(
+                new Suggestion(SuggestionType.CONDITION, condition.getId(), condition.getName(), CONDITION_WEIGHT)));
+        doctorRepository.findApprovedDoctorNames().forEach(doctor -> suggestions.add(
+                new Suggestion(SuggestionType.DOCTOR, doctor.getId(), doctor.getName(),
+                        doctor.getWeight() != null ? doctor.getWeight() : 0)));
+
+        index = SuggestionIndex.build(suggestions);
+        builtAt = System.currentTimeMillis();
+        log.info("Suggestion index rebuilt with {} entries in {} ms", index.size(), builtAt - start);
+    }
+}
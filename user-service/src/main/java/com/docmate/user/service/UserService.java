@@ -8,6 +8,7 @@ import com.docmate.common.repository.UserRepository;
 import com.docmate.user.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -15,7 +16,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -23,10 +26,20 @@ import java.util.UUID;
 @Transactional
 public class UserService {
 
+    private static final int MIN_SEARCH_TERM_LENGTH = 2;
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[0-9][0-9 ()-]{5,14}$");
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
 
+    @Value("${app.search.users.similarity-threshold:0.3}")
+    private double similarityThreshold;
+
+    @Value("${app.search.users.max-results:50}")
+    private int searchMaxResults;
+
     public UserDto getUserById(UUID userId) {
 
         User user = userRepository.findById(userId)
@@ -80,10 +93,29 @@ public class UserService {
         return userRepository.existsByEmail(email);
     }
 
-    public Page<UserDto> searchUsers(String searchTerm, Pageable pageable) {
-        Page<User> users = userRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
-                searchTerm, searchTerm, searchTerm, pageable);
-        return users.map(userMapper::toDto);
+    @Transactional(readOnly = true)
+    public List<UserDto> searchUsers(String searchTerm, Integer limit) {
+        String term = searchTerm != null ? searchTerm.trim() : "";
+        if (term.length() < MIN_SEARCH_TERM_LENGTH) {
+            throw new BusinessException("INVALID_SEARCH_TERM",
+                    "Search term must be at least " + MIN_SEARCH_TERM_LENGTH + " characters", 400);
+        }
+        int resultLimit = limit == null ? searchMaxResults : Math.max(1, Math.min(limit, searchMaxResults));
+
+        // Exact email or phone lookups hit a btree index and skip the trigram search entirely
+        List<User> exactMatches = List.of();
+        if (EMAIL_PATTERN.matcher(term).matches()) {
+            exactMatches = userRepository.findByEmailIgnoreCase(term).map(List::of).orElse(List.of());
+        } else if (PHONE_PATTERN.matcher(term).matches()) {
+            exactMatches = userRepository.findByPhone(term);
+        }
+        if (!exactMatches.isEmpty()) {
+            return exactMatches.stream().limit(resultLimit).map(userMapper::toDto).toList();
+        }
+
+        return userRepository.searchBySimilarity(term, similarityThreshold, resultLimit).stream()
+                .map(userMapper::toDto)
+                .toList();
     }
 
     public void changePassword(String email, String oldPassword, String newPassword) {
@@ -130,8 +162,6 @@ public class UserService {
     public Page<UserDto> searchDoctorsWithFilters(String query, String specialization, String condition,
                                                  BigDecimal maxFee, ConsultationMode consultationMode,
                                                  Boolean emergencyAvailable, Pageable pageable) {
-        // This would typically involve a complex query with joins to doctor table
-        // For now, implementing basic search
         Page<User> doctors = userRepository.findDoctorsWithFilters(
                 query, specialization, condition, maxFee, consultationMode, emergencyAvailable, pageable);
         return doctors.map(userMapper::toDto);